@@ -1,18 +1,28 @@
 package com.nodap.application.album;
 
+import com.nodap.application.image.ImageReferenceService;
+import com.nodap.application.music.MusicPageCache;
 import com.nodap.domain.album.entity.Album;
+import com.nodap.domain.album.repository.AlbumListItem;
 import com.nodap.domain.album.repository.AlbumRepository;
 import com.nodap.domain.album.type.AlbumSortType;
+import com.nodap.domain.music.repository.MusicRepository;
 import com.nodap.domain.user.entity.User;
 import com.nodap.domain.user.repository.UserRepository;
 import com.nodap.interfaces.dto.album.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Predicate;
+
 /**
  * 앨범의 CRUD
  */
@@ -23,9 +33,14 @@ public class AlbumService {
 
     private final UserRepository userRepository;
     private final AlbumRepository albumRepository;
+    private final MusicRepository musicRepository;
+    private final ImageReferenceService imageReferenceService;
+    private final MusicPageCache musicPageCache;
 
     /**
      * 앨범 생성
+     * 앨범 INSERT의 외래 키 확인이 사용자 행에 공유 잠금을 걸기 때문에, 앨범 수를 먼저 올려 배타 잠금부터 잡는다.
+     * (순서가 반대면 동시 생성 시 잠금 승격 경합으로 교착 상태가 난다)
      */
     @Transactional
     public AlbumCreateResponse createAlbum(Long userId, AlbumCreateRequest request){
@@ -40,35 +55,53 @@ public class AlbumService {
                 .musicCountLimit(request.getMusicCountLimit())
                 .build();
 
+        userRepository.incrementAlbumCount(userId);
         albumRepository.save(album);
         return new AlbumCreateResponse(album.getUuid());
     }
 
     /**
      * 내 앨범 리스트 조회
+     * 전체 개수는 users.album_count를 사용하고, exactCount일 때만 COUNT 쿼리를 실행한다.
      */
     @Transactional(readOnly = true)
-    public Page<AlbumListResponse> getAlbumList(Long userId, AlbumSortType sortType, int page, int size) {
+    public Page<AlbumListResponse> getAlbumList(Long userId, AlbumSortType sortType, int page, int size,
+                                                boolean exactCount) {
         Pageable pageable = sortType.toPageable(page, size);
 
-        return albumRepository
-                .findByUserIdAndNotDeleted(userId, pageable)
+        Page<AlbumListItem> albums;
+        if (exactCount) {
+            albums = albumRepository.findByUserIdAndNotDeleted(userId, pageable);
+        } else {
+            Slice<AlbumListItem> slice = albumRepository.findSliceByUserIdAndNotDeleted(userId, pageable);
+            long total = userRepository.findAlbumCountById(userId).orElse(0);
+            albums = new PageImpl<>(slice.getContent(), pageable, total);
+        }
+
+        return albums
                 .map(album -> new AlbumListResponse(
-                        album.getUuid(),
-                        album.getTitle(),
-                        album.getColor()
+                        album.uuid(),
+                        album.title(),
+                        album.color()
                 ));
     }
 
     /**
      * 앨범 상세 정보 조회
+     *
+     * @param notModified 앨범 버전이 클라이언트 캐시와 같은지 판단 (true면 빈 값 반환)
      */
     @Transactional(readOnly = true)
-    public AlbumDetailResponse getAlbumByUuid(Long userId, String albumUuid){
+    public Optional<AlbumDetailResponse> getAlbumByUuid(Long userId, String albumUuid,
+                                                        Predicate<AlbumVersion> notModified){
         Album album = albumRepository.findByUuidAndNotDeleted(albumUuid)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 앨범"));
 
-        return new AlbumDetailResponse(
+        if (notModified.test(AlbumVersion.of(album))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new AlbumDetailResponse(
                 album.getUuid(),
                 album.getTitle(),
                 album.getDescription(),
@@ -77,11 +110,12 @@ public class AlbumService {
                 album.getMusicCountLimit(),
                 album.getColor(),
                 album.getCreatedAt()
-        );
+        ));
     }
 
     /**
      * 앨범 삭제
+     * 조건부 UPDATE로 삭제에 성공한 요청만 앨범 수를 줄인다.
      */
     @Transactional
     public void deleteAlbum(Long userId, String albumUuid) {
@@ -93,7 +127,12 @@ public class AlbumService {
             throw new IllegalArgumentException("앨범 삭제 권한이 없습니다.");
         }
 
-        album.delete();
+        if (albumRepository.softDelete(album.getId(), LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("존재하지 않는 앨범");
+        }
+        userRepository.decrementAlbumCount(userId);
+        imageReferenceService.releaseAll(musicRepository.findImagesByAlbumId(album.getId()));
+        musicPageCache.evict(albumUuid);
     }
 
     /**
@@ -109,6 +148,7 @@ public class AlbumService {
         }
 
         album.updateIsPublic(!album.getIsPublic());
+        musicPageCache.evict(albumUuid);
         return new AlbumVisibilityResponse(album.getIsPublic());
     }
 }
@@ -0,0 +1,56 @@
+package com.nodap.application.album;
+
+import com.nodap.domain.album.entity.Album;
+import com.nodap.domain.album.repository.AlbumAccess;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 조회(If-None-Match / If-Modified-Since) 비교용 앨범 버전
+ * 앨범 수정 시각과 수록곡 수로 만들고, 목록 응답은 수록곡 내용 버전과 주인 여부까지 포함한다.
+ *
+ * @param etag         강한 ETag (따옴표 포함)
+ * @param lastModified 마지막 수정 시각 (epoch millis, Last-Modified를 보내지 않으면 {@link #NO_LAST_MODIFIED})
+ */
+public record AlbumVersion(
+        String etag,
+        long lastModified
+) {
+
+    /**
+     * Last-Modified 없이 ETag로만 비교할 때의 값 (음수면 Spring이 헤더를 쓰지 않고 If-Modified-Since도 무시한다)
+     */
+    public static final long NO_LAST_MODIFIED = -1;
+
+    /**
+     * 앨범 상세 응답용 버전
+     */
+    public static AlbumVersion of(Album album) {
+        long lastModified = lastModified(album.getUpdatedAt(), album.getCreatedAt());
+        return new AlbumVersion(
+                "\"" + Long.toHexString(lastModified) + "-" + Integer.toHexString(album.getMusicCount()) + "\"",
+                lastModified);
+    }
+
+    /**
+     * 수록곡 목록 응답용 버전
+     * 요청자의 주인 여부에 따라 응답 플래그가 달라지므로 ETag에 포함한다.
+     * 수록곡 URL/썸네일 갱신은 앨범 수정 시각을 바꾸지 않고 내용 버전만 올리므로,
+     * 시각 비교로는 변경을 알 수 없어 Last-Modified는 보내지 않고 ETag로만 비교한다.
+     *
+     * @param contentVersion 수록곡 내용 버전 (MusicPageCache)
+     */
+    public static AlbumVersion of(AlbumAccess access, long contentVersion) {
+        long albumModified = lastModified(access.updatedAt(), access.createdAt());
+        return new AlbumVersion(
+                "\"" + Long.toHexString(albumModified) + "-" + Integer.toHexString(access.musicCount())
+                        + "-" + Long.toHexString(contentVersion) + (access.owner() ? "-o" : "") + "\"",
+                NO_LAST_MODIFIED);
+    }
+
+    private static long lastModified(LocalDateTime updatedAt, LocalDateTime createdAt) {
+        LocalDateTime modifiedAt = updatedAt != null ? updatedAt : createdAt;
+        return modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
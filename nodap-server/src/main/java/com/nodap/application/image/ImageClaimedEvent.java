@@ -0,0 +1,13 @@
+package com.nodap.application.image;
+
+/**
+ * 업로드/확인 요청이 이미 저장된 이미지 객체 키를 돌려줬을 때 발행되는 이벤트
+ * 중복 업로드는 S3 객체를 다시 쓰지 않아 LastModified가 오래된 채로 남으므로,
+ * 고아 이미지 정리가 곧 참조될 객체를 지우지 않도록 사용 시각을 기록하는 데 쓴다.
+ *
+ * @param objectKey 객체 키
+ */
+public record ImageClaimedEvent(
+        String objectKey
+) {
+}
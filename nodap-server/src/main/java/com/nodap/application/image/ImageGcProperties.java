@@ -0,0 +1,53 @@
+package com.nodap.application.image;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 고아 이미지 정리 설정 프로퍼티
+ * 생성자 바인딩 사용 (Setter 금지)
+ */
+@ConfigurationProperties(prefix = "image.gc")
+public record ImageGcProperties(
+        /**
+         * 정리 작업 활성화 여부
+         */
+        boolean enabled,
+
+        /**
+         * true면 삭제 대상만 로그로 남기고 실제로 지우지 않음
+         */
+        Boolean dryRun,
+
+        /**
+         * 업로드 후 참조가 저장되기 전까지 보호하는 유예 기간
+         */
+        Duration gracePeriod,
+
+        /**
+         * 다중 인스턴스 중복 실행 방지 락 유지 시간
+         */
+        Duration lockTtl,
+
+        /**
+         * 참조가 없어도 삭제하지 않는 객체 키 (기본 이미지 등)
+         */
+        Set<String> protectedKeys
+) {
+    public ImageGcProperties {
+        if (dryRun == null) {
+            dryRun = true;
+        }
+        if (gracePeriod == null) {
+            gracePeriod = Duration.ofHours(24);
+        }
+        if (lockTtl == null) {
+            lockTtl = Duration.ofMinutes(30);
+        }
+        if (protectedKeys == null || protectedKeys.isEmpty()) {
+            protectedKeys = Set.of("songs/f2480cd9-6dfb-475e-90f4-d31a7ee052d7.png");
+        }
+    }
+}
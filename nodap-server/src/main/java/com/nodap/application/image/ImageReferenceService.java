@@ -0,0 +1,67 @@
+package com.nodap.application.image;
+
+import com.nodap.domain.image.repository.ImageObjectRepository;
+import com.nodap.infrastructure.external.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 이미지 참조 카운트 관리
+ * 같은 이미지는 내용 주소 키 하나로 공유되므로, 엔티티가 이미지를 붙이거나 뗄 때 참조 수를 갱신한다.
+ * 우리 버킷 밖의 URL(카카오 프로필 등)은 무시한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageReferenceService {
+
+    private final ImageObjectRepository imageObjectRepository;
+    private final S3Service s3Service;
+
+    /**
+     * 이미지 참조 추가
+     */
+    @Transactional
+    public void retain(String imageUrl) {
+        s3Service.objectKey(imageUrl).ifPresent(imageObjectRepository::retain);
+    }
+
+    /**
+     * 이미지 참조 해제
+     */
+    @Transactional
+    public void release(String imageUrl) {
+        s3Service.objectKey(imageUrl).ifPresent(objectKey -> {
+            if (imageObjectRepository.release(objectKey) == 0) {
+                log.debug("[Image] 참조 카운트 없는 이미지 해제: objectKey={}", objectKey);
+            }
+        });
+    }
+
+    /**
+     * 여러 이미지 참조 해제 (앨범 삭제 등)
+     */
+    @Transactional
+    public void releaseAll(Collection<String> imageUrls) {
+        imageUrls.forEach(this::release);
+    }
+
+    /**
+     * 기존 객체 키 사용 시각 기록
+     */
+    @EventListener
+    public void onImageClaimed(ImageClaimedEvent event) {
+        try {
+            imageObjectRepository.claim(event.objectKey(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // 기록 실패는 업로드 결과에 영향을 주지 않는다. (유예 기간 판단만 S3 LastModified로 돌아감)
+            log.warn("[Image] 이미지 사용 시각 기록 실패: objectKey={}, error={}", event.objectKey(), e.getMessage());
+        }
+    }
+}
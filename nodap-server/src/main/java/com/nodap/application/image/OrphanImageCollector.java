@@ -0,0 +1,197 @@
+package com.nodap.application.image;
+
+import com.nodap.domain.image.repository.ImageObjectRepository;
+import com.nodap.domain.music.repository.MusicRepository;
+import com.nodap.domain.user.repository.UserRepository;
+import com.nodap.infrastructure.external.S3Folder;
+import com.nodap.infrastructure.external.S3Service;
+import com.nodap.infrastructure.external.storage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 고아 이미지 정리
+ * 어떤 엔티티도 참조하지 않는 S3 이미지를 주기적으로 찾아 DeleteObjects로 일괄 삭제한다.
+ * 업로드 직후 참조가 저장되기 전의 객체를 지우지 않도록 유예 기간이 지난 객체만 대상으로 한다.
+ * 유예 기간은 S3 LastModified와 중복 업로드/확인으로 기존 키를 돌려준 시각(last_claimed_at) 중 늦은 쪽부터 센다.
+ */
+@Slf4j
+@Component
+public class OrphanImageCollector {
+
+    private static final String LOCK_KEY = "image_gc:lock";
+
+    /**
+     * 자신이 잡은 락일 때만 해제 (TTL 만료 후 다른 인스턴스가 잡은 락을 지우지 않도록)
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final List<String> SWEEP_PREFIXES = List.of(
+            S3Folder.SONGS.getPath() + "/",
+            S3Folder.USER_PROFILE.getPath() + "/");
+
+    private final ImageGcProperties imageGcProperties;
+    private final S3Service s3Service;
+    private final MusicRepository musicRepository;
+    private final UserRepository userRepository;
+    private final ImageObjectRepository imageObjectRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Counter scanned;
+    private final Counter deleted;
+    private final Counter reclaimedBytes;
+    private final Timer duration;
+
+    public OrphanImageCollector(ImageGcProperties imageGcProperties,
+                                S3Service s3Service,
+                                MusicRepository musicRepository,
+                                UserRepository userRepository,
+                                ImageObjectRepository imageObjectRepository,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.imageGcProperties = imageGcProperties;
+        this.s3Service = s3Service;
+        this.musicRepository = musicRepository;
+        this.userRepository = userRepository;
+        this.imageObjectRepository = imageObjectRepository;
+        this.redisTemplate = redisTemplate;
+
+        this.scanned = meterRegistry.counter("image.gc.objects", "result", "scanned");
+        this.deleted = meterRegistry.counter("image.gc.objects", "result", "deleted");
+        this.reclaimedBytes = meterRegistry.counter("image.gc.reclaimed.bytes");
+        this.duration = meterRegistry.timer("image.gc.duration");
+    }
+
+    /**
+     * 고아 이미지 정리 (기본: 매일 04:30)
+     */
+    @Scheduled(cron = "${image.gc.cron:0 30 4 * * *}")
+    public void collect() {
+        if (!imageGcProperties.enabled()) {
+            return;
+        }
+        String lockToken = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, lockToken, imageGcProperties.lockTtl()))) {
+            log.debug("[ImageGC] 다른 인스턴스에서 실행 중");
+            return;
+        }
+
+        try {
+            duration.record(this::sweep);
+        } catch (Exception e) {
+            log.error("[ImageGC] 고아 이미지 정리 실패", e);
+        } finally {
+            releaseLock(lockToken);
+        }
+    }
+
+    private void releaseLock(String lockToken) {
+        try {
+            Long released = redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), lockToken);
+            if (released == null || released == 0) {
+                log.warn("[ImageGC] 락 유지 시간이 지나 이미 해제된 락: lockTtl={}", imageGcProperties.lockTtl());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ImageGC] 락 해제 실패 (유지 시간이 지나면 만료됨): error={}", e.getMessage());
+        }
+    }
+
+    private void sweep() {
+        Instant cutoff = Instant.now().minus(imageGcProperties.gracePeriod());
+        SweepResult result = new SweepResult();
+
+        for (String prefix : SWEEP_PREFIXES) {
+            s3Service.listObjects(prefix, page -> sweepPage(page, cutoff, false, result));
+        }
+        // 스테이징 객체는 해시 키로 복사된 뒤 남은 것이므로 유예 기간이 지나면 항상 삭제한다.
+        s3Service.listObjects(S3Service.STAGING_FOLDER + "/", page -> sweepPage(page, cutoff, true, result));
+
+        log.info("[ImageGC] 고아 이미지 정리 완료: dryRun={}, scanned={}, orphans={}, deleted={}, bytes={}",
+                imageGcProperties.dryRun(), result.scanned, result.orphans, result.deleted, result.bytes);
+    }
+
+    private void sweepPage(List<StoredObject> page, Instant cutoff, boolean staging, SweepResult result) {
+        result.scanned += page.size();
+        scanned.increment(page.size());
+
+        Map<String, StoredObject> candidates = page.stream()
+                .filter(object -> object.lastModified().isBefore(cutoff))
+                .filter(object -> !imageGcProperties.protectedKeys().contains(object.key()))
+                .collect(Collectors.toMap(StoredObject::key, Function.identity()));
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> orphanKeys = staging ? candidates.keySet() : findOrphanKeys(candidates.keySet(), cutoff);
+        if (orphanKeys.isEmpty()) {
+            return;
+        }
+        result.orphans += orphanKeys.size();
+
+        if (imageGcProperties.dryRun()) {
+            orphanKeys.forEach(key -> log.info("[ImageGC] 삭제 대상 (dry-run): key={}", key));
+            return;
+        }
+
+        Set<String> deletedKeys = s3Service.deleteObjects(orphanKeys);
+        if (deletedKeys.isEmpty()) {
+            return;
+        }
+        if (!staging) {
+            imageObjectRepository.deleteUnreferenced(deletedKeys);
+        }
+
+        long bytes = deletedKeys.stream().mapToLong(key -> candidates.get(key).size()).sum();
+        result.deleted += deletedKeys.size();
+        result.bytes += bytes;
+        deleted.increment(deletedKeys.size());
+        reclaimedBytes.increment(bytes);
+    }
+
+    /**
+     * 엔티티 컬럼과 참조 카운트 어디에서도 참조하지 않고, 유예 기간 안에 다시 사용되지도 않은 객체 키
+     */
+    private Set<String> findOrphanKeys(Set<String> keys, Instant cutoff) {
+        Map<String, String> keyByUrl = keys.stream()
+                .collect(Collectors.toMap(s3Service::toUrl, Function.identity()));
+
+        Set<String> referencedUrls = new HashSet<>();
+        referencedUrls.addAll(musicRepository.findImagesIn(keyByUrl.keySet()));
+        referencedUrls.addAll(musicRepository.findThumbnailImagesIn(keyByUrl.keySet()));
+        referencedUrls.addAll(userRepository.findProfileImagesIn(keyByUrl.keySet()));
+
+        Set<String> orphans = new HashSet<>(keys);
+        referencedUrls.forEach(url -> orphans.remove(keyByUrl.get(url)));
+        imageObjectRepository.findReferencedKeys(keys).forEach(orphans::remove);
+        imageObjectRepository.findClaimedKeysSince(keys, LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault()))
+                .forEach(orphans::remove);
+        return orphans;
+    }
+
+    private static final class SweepResult {
+        private long scanned;
+        private long orphans;
+        private long deleted;
+        private long bytes;
+    }
+}
@@ -0,0 +1,18 @@
+package com.nodap.application.music;
+
+/**
+ * 노래 등록 완료 이벤트
+ * 트랜잭션 커밋 이후 MV URL 확인, 썸네일 생성 등 후속 작업을 트리거한다.
+ *
+ * @param musicId 등록된 수록곡 ID
+ * @param artist  가수명
+ * @param title   노래 제목
+ * @param image   노래 이미지 URL
+ */
+public record MusicCreatedEvent(
+        Long musicId,
+        String artist,
+        String title,
+        String image
+) {
+}
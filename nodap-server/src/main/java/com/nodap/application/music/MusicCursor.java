@@ -0,0 +1,83 @@
+package com.nodap.application.music;
+
+import com.nodap.domain.music.repository.MusicListItem;
+import com.nodap.domain.music.type.MusicSortType;
+import com.nodap.global.error.BusinessException;
+import com.nodap.global.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 수록곡 목록 커서
+ * 마지막으로 내려준 수록곡의 정렬 키와 id를 base64url로 인코딩한다. (클라이언트는 내용을 해석하지 않는다)
+ *
+ * @param sortType 커서를 발급한 정렬 기준
+ * @param id       마지막 수록곡 id (정렬 키가 같을 때 순서 고정)
+ * @param value    마지막 수록곡의 정렬 키 (가수 없는 곡이면 null)
+ */
+public record MusicCursor(
+        MusicSortType sortType,
+        Long id,
+        String value
+) {
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "-";
+    private static final String VALUE_PREFIX = "=";
+
+    /**
+     * 수록곡 위치의 커서 생성
+     */
+    public static MusicCursor of(MusicSortType sortType, MusicListItem music) {
+        String value = switch (sortType) {
+            case LATEST, OLDEST -> music.createdAt().toString();
+            case TITLE -> music.title();
+            case ARTIST -> music.artist();
+        };
+        return new MusicCursor(sortType, music.id(), value);
+    }
+
+    /**
+     * 커서 해석 (다른 정렬 기준으로 발급된 커서는 거부)
+     */
+    public static MusicCursor decode(String encoded, MusicSortType sortType) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            // 정렬 키(제목 등)에 구분자가 들어 있을 수 있으므로 마지막 필드는 나누지 않는다.
+            String[] fields = decoded.split("\\" + SEPARATOR, 3);
+            if (fields.length != 3 || MusicSortType.valueOf(fields[0]) != sortType) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+
+            String value = fields[2].startsWith(VALUE_PREFIX) ? fields[2].substring(VALUE_PREFIX.length()) : null;
+            if (value == null && (sortType != MusicSortType.ARTIST || !fields[2].equals(NULL_VALUE))) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+
+            MusicCursor cursor = new MusicCursor(sortType, Long.parseLong(fields[1]), value);
+            if (sortType == MusicSortType.LATEST || sortType == MusicSortType.OLDEST) {
+                cursor.createdAt(); // 형식 검증
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서 인코딩
+     */
+    public String encode() {
+        String raw = sortType.name() + SEPARATOR + id + SEPARATOR + (value == null ? NULL_VALUE : VALUE_PREFIX + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 최신순/오래된 순 커서의 등록 시각
+     */
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(value);
+    }
+}
@@ -0,0 +1,169 @@
+package com.nodap.application.music;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nodap.domain.music.repository.MusicListItem;
+import com.nodap.domain.music.repository.MusicRepository;
+import com.nodap.domain.music.type.MusicSortType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 공개 앨범 수록곡 목록 페이지 캐시
+ * 앨범별 버전을 키에 포함해 저장하고, 앨범 내용이 바뀌면 버전만 올려 이전 페이지를 한 번에 무효화한다.
+ * 페이지 본문에는 요청자별 플래그(isOwner 등)를 넣지 않아 모든 요청자가 공유한다.
+ * 버전은 캐시 사용 여부와 무관하게 유지되어 목록 ETag 계산에도 쓰인다.
+ * Redis 장애 시에는 캐시 없이 DB에서 조회한다.
+ */
+@Slf4j
+@Component
+public class MusicPageCache {
+
+    /**
+     * 버전을 읽지 못했을 때의 값 (캐시 우회)
+     */
+    public static final long NO_VERSION = -1;
+
+    private static final String VERSION_KEY_PREFIX = "music_page_version:";
+    private static final String PAGE_KEY_PREFIX = "music_page:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MusicRepository musicRepository;
+    private final MusicPageCacheProperties properties;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public MusicPageCache(StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          MusicRepository musicRepository,
+                          MusicPageCacheProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.musicRepository = musicRepository;
+        this.properties = properties;
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 앨범 현재 버전 조회
+     * 조회 트랜잭션의 첫 DB 읽기 전에 호출해야 한다. 커밋 이후 올라간 버전으로 커밋 이전 스냅샷을 저장하지 않기 위함.
+     */
+    public long version(String albumUuid) {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + albumUuid);
+            return value == null ? 0 : Long.parseLong(value);
+        } catch (RuntimeException e) {
+            log.warn("[Music] 목록 캐시 버전 조회 실패: albumUuid={}, error={}", albumUuid, e.getMessage());
+            return NO_VERSION;
+        }
+    }
+
+    /**
+     * 캐시된 페이지 조회, 없으면 loader로 조회 후 저장
+     */
+    public Page<MusicListItem> getOrLoad(String albumUuid, long version, MusicSortType sortType, Pageable pageable,
+                                         Supplier<Page<MusicListItem>> loader) {
+        if (!properties.enabled() || version == NO_VERSION || pageable.getPageNumber() >= properties.maxPages()) {
+            return loader.get();
+        }
+
+        String key = pageKey(albumUuid, version, sortType, pageable);
+
+        CachedPage cached = get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return new PageImpl<>(cached.content(), pageable, cached.total());
+        }
+
+        missCounter.increment();
+        Page<MusicListItem> page = loader.get();
+        put(key, new CachedPage(page.getContent(), page.getTotalElements()));
+        return page;
+    }
+
+    /**
+     * 앨범 페이지 캐시 무효화 (버전 증가)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+     */
+    public void evict(String albumUuid) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpVersion(albumUuid);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bumpVersion(albumUuid);
+            }
+        });
+    }
+
+    /**
+     * 수록곡이 속한 앨범의 페이지 캐시 무효화 (백그라운드 작업용)
+     */
+    public void evictByMusicId(Long musicId) {
+        musicRepository.findAlbumUuidById(musicId).ifPresent(this::evict);
+    }
+
+    private void bumpVersion(String albumUuid) {
+        try {
+            // 버전 키는 만료시키지 않는다. 만료 후 0부터 다시 올라가면 이전 세대 페이지와 키가 겹칠 수 있다.
+            redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + albumUuid);
+        } catch (RuntimeException e) {
+            log.warn("[Music] 목록 캐시 무효화 실패: albumUuid={}, error={}", albumUuid, e.getMessage());
+        }
+    }
+
+    private CachedPage get(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value == null ? null : objectMapper.readValue(value, CachedPage.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[Music] 목록 캐시 조회 실패: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void put(String key, CachedPage page) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(page), properties.ttl());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[Music] 목록 캐시 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private static String pageKey(String albumUuid, long version, MusicSortType sortType, Pageable pageable) {
+        return PAGE_KEY_PREFIX + albumUuid + ":" + version + ":" + sortType.name()
+                + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("music.page.cache.requests")
+                .description("수록곡 목록 페이지 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 항목 (페이지 내용과 당시 전체 개수)
+     */
+    record CachedPage(List<MusicListItem> content, long total) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.nodap.application.music;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 공개 앨범 수록곡 목록 페이지 캐시 설정 프로퍼티
+ * 생성자 바인딩 사용 (Setter 금지)
+ */
+@ConfigurationProperties(prefix = "music.page-cache")
+public record MusicPageCacheProperties(
+        /**
+         * 캐시 사용 여부
+         */
+        Boolean enabled,
+
+        /**
+         * 페이지 보관 기간 (무효화를 놓친 변경도 이 시간이 지나면 반영됨)
+         */
+        Duration ttl,
+
+        /**
+         * 캐시하는 앞쪽 페이지 수 (0페이지부터)
+         */
+        Integer maxPages
+) {
+    public MusicPageCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(10);
+        }
+        if (maxPages == null) {
+            maxPages = 3;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.nodap.application.music;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * MV 검색용 정규화 키
+ * 같은 노래가 대소문자, 공백, 한글 조합 방식, 피처링 표기만 다르게 입력되어도 같은 키가 되도록 정규화한다.
+ *
+ * @param artist 정규화된 가수명
+ * @param title  정규화된 노래 제목
+ */
+public record MusicSearchKey(
+        String artist,
+        String title
+) {
+
+    private static final Pattern BRACKETED_FEATURING =
+            Pattern.compile("[(\\[]\\s*(feat|ft|featuring)\\b\\.?[^)\\]]*[)\\]]");
+    private static final Pattern TRAILING_FEATURING =
+            Pattern.compile("\\s(feat|ft|featuring)\\b\\.?\\s.*$");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * 사용자 입력값으로 검색 키 생성
+     */
+    public static MusicSearchKey of(String artist, String title) {
+        return new MusicSearchKey(normalize(artist), normalize(title));
+    }
+
+    /**
+     * 캐시 등에서 사용하는 단일 문자열 키
+     */
+    public String value() {
+        return artist + "|" + title;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        normalized = BRACKETED_FEATURING.matcher(normalized).replaceAll(" ");
+        normalized = TRAILING_FEATURING.matcher(normalized).replaceAll("");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+}
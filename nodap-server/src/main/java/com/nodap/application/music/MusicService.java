@@ -1,25 +1,47 @@
 package com.nodap.application.music;
 
+import com.nodap.application.album.AlbumVersion;
+import com.nodap.application.image.ImageReferenceService;
 import com.nodap.domain.album.entity.Album;
+import com.nodap.domain.album.repository.AlbumAccess;
 import com.nodap.domain.album.repository.AlbumRepository;
 import com.nodap.domain.music.entity.Music;
+import com.nodap.domain.music.repository.MusicBatchRepository;
+import com.nodap.domain.music.repository.MusicDetailItem;
+import com.nodap.domain.music.repository.MusicListItem;
 import com.nodap.domain.music.repository.MusicRepository;
+import com.nodap.domain.music.repository.NewMusic;
 import com.nodap.domain.music.type.MusicSortType;
+import com.nodap.domain.music.type.MusicUrlStatus;
 import com.nodap.global.error.BusinessException;
 import com.nodap.global.error.ErrorCode;
 import com.nodap.infrastructure.external.S3Service;
+import com.nodap.interfaces.dto.album.AlbumDetailResponse;
+import com.nodap.interfaces.dto.album.AlbumPageResponse;
 import com.nodap.interfaces.dto.music.MusicCreateRequest;
+import com.nodap.interfaces.dto.music.MusicCursorResponse;
 import com.nodap.interfaces.dto.music.MusicDetailResponse;
 import com.nodap.interfaces.dto.music.MusicInfo;
 import com.nodap.interfaces.dto.music.MusicListResponse;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
 
 /**
  * 수록곡의 CRUD
@@ -29,123 +51,329 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MusicService {
 
-    private final MusicVideoSearchPort musicVideoSearchPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final AlbumRepository albumRepository;
     private final MusicRepository musicRepository;
+    private final MusicBatchRepository musicBatchRepository;
+    private final ImageReferenceService imageReferenceService;
+    private final MusicPageCache musicPageCache;
+
+    /**
+     * 목록 한 페이지 최대 크기
+     */
+    public static final int MAX_PAGE_SIZE = 50;
 
     private final S3Service s3Service;
-    private static final String DEFAULT_IMAGE_URL =
+    public static final String DEFAULT_IMAGE_URL =
             "https://nodap-images.s3.ap-northeast-2.amazonaws.com/songs/f2480cd9-6dfb-475e-90f4-d31a7ee052d7.png";
 
     /**
      * 노래 등록
+     * 수록곡 제한 확인과 수록곡 수 증가는 조건부 UPDATE 하나로 처리해 동시 등록에도 제한을 넘지 않는다.
+     * MV URL은 커밋 이후 MusicUrlResolver가 비동기로 채운다.
      */
     @Transactional
     public void createMusic(Long userId, String albumUuid, MusicCreateRequest request, String imageUrl){
-        Album album = albumRepository.findByUuidAndNotDeleted(albumUuid)
-                .orElseThrow(() -> new IllegalArgumentException("앨범이 존재하지 않습니다."));
-
-        boolean isOwner = userId==null? false : albumRepository.isOwner(albumUuid, userId);
+        AlbumAccess access = findWritableAccess(albumUuid, userId);
 
-        if(!album.getIsPublic() || isOwner){
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
-        }
-
-        if(album.getMusicCountLimit()<=album.getMusicCount()){
+        // INSERT보다 먼저 실행해야 한다. 외래 키 검사의 공유 잠금을 먼저 잡으면 동시 등록끼리 교착 상태가 된다.
+        if(albumRepository.increaseMusicCount(access.id(), 1, LocalDateTime.now()) == 0){
             throw new BusinessException(ErrorCode.MUSIC_LIMIT_EXCEEDED);
         }
 
-        String videoUrl = musicVideoSearchPort.search(request.getArtist(), request.getTitle());
-
-        if (videoUrl == null || videoUrl.isBlank()) {
-            videoUrl = "https://www.youtube.com";
-        }
-
-        String writer = request.getWriter();
-        if(writer == null || writer.isBlank()){
-            writer = "익명";
-        }
-
         Music music = Music.builder()
-                .album(album)
+                .album(albumRepository.getReferenceById(access.id()))
                 .title(request.getTitle())
                 .artist(request.getArtist())
                 .message(request.getMessage())
-                .url(videoUrl)
-                .writer(writer)
+                .url(MusicUrlResolver.FALLBACK_URL)
+                .urlStatus(MusicUrlStatus.PENDING)
+                .writer(writerOrAnonymous(request.getWriter()))
                 .image(imageUrl)
                 .build();
 
         musicRepository.save(music);
+        imageReferenceService.retain(imageUrl);
+        musicPageCache.evict(albumUuid);
+
+        eventPublisher.publishEvent(new MusicCreatedEvent(music.getId(), music.getArtist(), music.getTitle(), music.getImage()));
+    }
+
+    /**
+     * 노래 일괄 등록
+     * 앨범 확인과 수록곡 수 증가는 한 번씩만 수행하고, 수록곡은 JDBC 배치 INSERT로 저장한다.
+     * 하나라도 저장하지 못하면 전체를 등록하지 않는다.
+     *
+     * @param imageUrls 요청 순서와 같은 순서의 확인된 이미지 URL
+     */
+    @Transactional
+    public void createMusics(@Nullable Long userId, String albumUuid, List<MusicCreateRequest> requests,
+                             List<String> imageUrls){
+        AlbumAccess access = findWritableAccess(albumUuid, userId);
+
+        if(albumRepository.increaseMusicCount(access.id(), requests.size(), LocalDateTime.now()) == 0){
+            throw new BusinessException(ErrorCode.MUSIC_LIMIT_EXCEEDED);
+        }
+
+        List<NewMusic> musics = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            MusicCreateRequest request = requests.get(i);
+            musics.add(new NewMusic(
+                    UUID.randomUUID().toString(),
+                    request.getTitle(),
+                    request.getArtist(),
+                    request.getMessage(),
+                    MusicUrlResolver.FALLBACK_URL,
+                    MusicUrlStatus.PENDING,
+                    writerOrAnonymous(request.getWriter()),
+                    imageUrls.get(i)));
+        }
+
+        List<Long> musicIds = musicBatchRepository.insertAll(access.id(), musics);
+        imageUrls.forEach(imageReferenceService::retain);
+        musicPageCache.evict(albumUuid);
+
+        for (int i = 0; i < musics.size(); i++) {
+            NewMusic music = musics.get(i);
+            eventPublisher.publishEvent(new MusicCreatedEvent(musicIds.get(i), music.artist(), music.title(), music.image()));
+        }
+    }
+
+    /**
+     * 일괄 등록 사전 확인 (이미지 확인처럼 비용이 큰 작업 전에 호출)
+     * 실제 제한 확인은 등록 시 조건부 UPDATE가 다시 하므로, 여기서는 실패할 것이 분명한 요청만 일찍 거절한다.
+     */
+    @Transactional(readOnly = true)
+    public void checkCanAddMusics(@Nullable Long userId, String albumUuid, int count) {
+        AlbumAccess access = findWritableAccess(albumUuid, userId);
+
+        if (!access.canAddMusics(count)) {
+            throw new BusinessException(ErrorCode.MUSIC_LIMIT_EXCEEDED);
+        }
+    }
+
+    /**
+     * 등록 권한 확인 (공개 앨범에 주인이 아닌 사용자만 등록 가능)
+     */
+    private AlbumAccess findWritableAccess(String albumUuid, @Nullable Long userId) {
+        AlbumAccess access = albumRepository.findAccessByUuid(albumUuid, userId)
+                .orElseThrow(() -> new IllegalArgumentException("앨범이 존재하지 않습니다."));
+
+        if(!access.isPublic() || access.owner()){
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return access;
+    }
+
+    private String writerOrAnonymous(@Nullable String writer) {
+        return writer == null || writer.isBlank() ? "익명" : writer;
     }
 
     /**
      * 노래 목록 조회
+     * 전체 개수는 albums.music_count를 사용하고, exactCount일 때만 COUNT 쿼리를 실행한다.
+     * 공개 앨범의 앞쪽 페이지는 MusicPageCache에서 공유하고, 플래그는 요청마다 계산한다.
+     * 앨범 접근 정보 1회 + 페이지 1회로 조회한다. (캐시 적중/304 시 앨범 접근 정보만)
+     *
+     * @param notModified 앨범 버전이 클라이언트 캐시와 같은지 판단 (true면 페이지 조회 없이 빈 값 반환)
      */
     @Transactional(readOnly = true)
-    public MusicListResponse getMusicList(@Nullable Long userId, String albumUuid, MusicSortType sortType, int page, int size){
-        Pageable pageable = sortType.toPageable(page, size);
+    public Optional<MusicListResponse> getMusicList(@Nullable Long userId, String albumUuid, MusicSortType sortType,
+                                                    int page, int size, boolean exactCount,
+                                                    Predicate<AlbumVersion> notModified){
+        Pageable pageable = sortType.toPageable(page, pageSize(size));
 
-        Album album = albumRepository.findByUuidAndNotDeleted(albumUuid)
+        // 첫 DB 조회 전에 버전을 읽어야 커밋 이전 스냅샷이 새 버전으로 저장되지 않는다.
+        long cacheVersion = musicPageCache.version(albumUuid);
+
+        AlbumAccess access = albumRepository.findAccessByUuid(albumUuid, userId)
                 .orElseThrow(() -> new IllegalArgumentException("앨범이 존재하지 않습니다."));
 
-        boolean isOwner = userId==null? false : albumRepository.isOwner(albumUuid, userId);
+        MusicListResponse.Flag flag = listFlag(access);
 
-        if(!album.getIsPublic() && !isOwner){
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        if (isNotModified(access, cacheVersion, notModified)) {
+            return Optional.empty();
         }
 
-        boolean canAdd = album.canAddMusic();
+        Page<MusicListItem> musics = exactCount
+                ? musicRepository.findByAlbumIdAndNotDeleted(access.id(), pageable)
+                : findPage(access, cacheVersion, sortType, pageable);
+        Page<MusicInfo> items = musics.map(this::toMusicInfo);
 
-        if(isOwner) canAdd = false;
+        return Optional.of(new MusicListResponse(flag, items));
+    }
 
-        Page<MusicInfo> items =
-                musicRepository.findByAlbumIdAndNotDeleted(album.getId(), pageable)
-                        .map(m -> new MusicInfo(
-                                m.getUuid(),
-                                m.getTitle(),
-                                m.getArtist(),
-                                m.getMessage(),
-                                m.getUrl(),
-                                m.getWriter(),
-                                m.getImage()
-                        ));
+    /**
+     * 앨범 페이지 조회 (앨범 상세 + 플래그 + 첫 페이지 수록곡)
+     * 앨범 상세 조회와 목록 조회를 한 번의 앨범 조회로 처리한다. 조회 권한은 목록 조회와 같다.
+     *
+     * @param notModified 앨범 버전이 클라이언트 캐시와 같은지 판단 (true면 페이지 조회 없이 빈 값 반환)
+     */
+    @Transactional(readOnly = true)
+    public Optional<AlbumPageResponse> getAlbumPage(@Nullable Long userId, String albumUuid, MusicSortType sortType,
+                                                    int size, Predicate<AlbumVersion> notModified){
+        Pageable pageable = sortType.toPageable(0, pageSize(size));
+        long cacheVersion = musicPageCache.version(albumUuid);
 
-        MusicListResponse.Flag flag = new MusicListResponse.Flag(isOwner, isOwner, canAdd);
+        Album album = albumRepository.findByUuidAndNotDeleted(albumUuid)
+                .orElseThrow(() -> new IllegalArgumentException("앨범이 존재하지 않습니다."));
 
+        AlbumAccess access = AlbumAccess.of(album, userId);
+        MusicListResponse.Flag flag = listFlag(access);
 
-        return new MusicListResponse(flag, items);
+        if (isNotModified(access, cacheVersion, notModified)) {
+            return Optional.empty();
+        }
+
+        AlbumDetailResponse detail = new AlbumDetailResponse(
+                album.getUuid(),
+                album.getTitle(),
+                album.getDescription(),
+                album.getIsPublic(),
+                album.getMusicCount(),
+                album.getMusicCountLimit(),
+                album.getColor(),
+                album.getCreatedAt()
+        );
+        Page<MusicInfo> items = findPage(access, cacheVersion, sortType, pageable).map(this::toMusicInfo);
+
+        return Optional.of(new AlbumPageResponse(detail, flag, items));
     }
 
     /**
-     * 노래 상세 정보 조회
+     * 목록 페이지 조회 (공개 앨범은 페이지 캐시 사용, 전체 개수는 music_count)
+     */
+    private Page<MusicListItem> findPage(AlbumAccess access, long cacheVersion, MusicSortType sortType,
+                                         Pageable pageable) {
+        if (!access.isPublic()) {
+            return toPage(musicRepository.findSliceByAlbumIdAndNotDeleted(access.id(), pageable), access.musicCount());
+        }
+        return musicPageCache.getOrLoad(access.uuid(), cacheVersion, sortType, pageable, () -> toPage(
+                musicRepository.findSliceByAlbumIdAndNotDeleted(access.id(), pageable), access.musicCount()));
+    }
+
+    /**
+     * 노래 목록 커서 조회
+     * 마지막으로 받은 수록곡 이후를 정렬 인덱스로 바로 찾으므로 페이지 깊이와 무관하게 비용이 일정하다.
      */
     @Transactional(readOnly = true)
-    public MusicDetailResponse getMusicDetail(Long userId, String musicUuid){
-        Music music = musicRepository.findByUuid(musicUuid)
-                .orElseThrow(() -> new IllegalArgumentException("노래가 존재하지 않습니다."));
+    public Optional<MusicCursorResponse> getMusicListByCursor(@Nullable Long userId, String albumUuid,
+                                                              MusicSortType sortType, @Nullable String cursor, int size,
+                                                              Predicate<AlbumVersion> notModified){
+        int pageSize = pageSize(size);
+        MusicCursor after = cursor == null || cursor.isBlank() ? null : MusicCursor.decode(cursor, sortType);
+        long contentVersion = musicPageCache.version(albumUuid);
+
+        AlbumAccess access = albumRepository.findAccessByUuid(albumUuid, userId)
+                .orElseThrow(() -> new IllegalArgumentException("앨범이 존재하지 않습니다."));
 
-        Album album = music.getAlbum();
+        MusicListResponse.Flag flag = listFlag(access);
 
-        boolean isOwner = userId==null? false : albumRepository.isOwner(album.getUuid(), userId);
+        if (isNotModified(access, contentVersion, notModified)) {
+            return Optional.empty();
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<MusicListItem> musics = findAfter(access.id(), sortType, after, pageSize + 1);
+        boolean hasNext = musics.size() > pageSize;
+        if (hasNext) {
+            musics = musics.subList(0, pageSize);
+        }
 
-        if(!album.getIsPublic() && !isOwner){
+        String nextCursor = hasNext ? MusicCursor.of(sortType, musics.get(musics.size() - 1)).encode() : null;
+        List<MusicInfo> items = musics.stream().map(this::toMusicInfo).toList();
+
+        return Optional.of(new MusicCursorResponse(flag, items, nextCursor, hasNext));
+    }
+
+    /**
+     * 조건부 조회 판단 (내용 버전을 읽지 못했으면 항상 새로 조회)
+     */
+    private boolean isNotModified(AlbumAccess access, long contentVersion, Predicate<AlbumVersion> notModified) {
+        return contentVersion != MusicPageCache.NO_VERSION
+                && notModified.test(AlbumVersion.of(access, contentVersion));
+    }
+
+    private List<MusicListItem> findAfter(Long albumId, MusicSortType sortType, @Nullable MusicCursor after, int limit) {
+        if (after == null) {
+            return musicRepository.findFirstPage(albumId, PageRequest.of(0, limit, sortType.toKeysetSort()));
+        }
+
+        Pageable pageable = PageRequest.of(0, limit);
+        return switch (sortType) {
+            case LATEST -> musicRepository.findLatestAfter(albumId, after.createdAt(), after.id(), pageable);
+            case OLDEST -> musicRepository.findOldestAfter(albumId, after.createdAt(), after.id(), pageable);
+            case TITLE -> musicRepository.findTitleAfter(albumId, after.value(), after.id(), pageable);
+            case ARTIST -> after.value() == null
+                    ? musicRepository.findArtistAfterNullArtist(albumId, after.id(), pageable)
+                    : musicRepository.findArtistAfter(albumId, after.value(), after.id(), pageable);
+        };
+    }
+
+    /**
+     * 목록 조회 권한 확인 후 플래그 생성 (비공개 앨범은 주인만 조회 가능)
+     */
+    private MusicListResponse.Flag listFlag(AlbumAccess access) {
+        if(!access.isReadable()){
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        MusicInfo musicInfo = new MusicInfo(
-                music.getUuid(),
-                music.getTitle(),
-                music.getArtist(),
-                music.getMessage(),
-                music.getUrl(),
-                music.getWriter(),
-                music.getImage());
+        boolean isOwner = access.owner();
+        boolean canAdd = !isOwner && access.canAddMusic();
+
+        return new MusicListResponse.Flag(isOwner, isOwner, canAdd);
+    }
 
-        boolean canDelete = userId==null? false : musicRepository.canDeleteMusic(musicUuid, userId);
+    /**
+     * Slice와 비정규화 카운터로 Page 구성 (응답 형식은 기존 Page와 동일)
+     */
+    private <T> Page<T> toPage(Slice<T> slice, long total) {
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
 
-        return new MusicDetailResponse(musicInfo, new MusicDetailResponse.Flag(isOwner, isOwner));
+    private int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private MusicInfo toMusicInfo(MusicListItem m) {
+        return new MusicInfo(
+                m.uuid(),
+                m.title(),
+                m.artist(),
+                m.message(),
+                m.url(),
+                m.urlStatus(),
+                m.writer(),
+                m.image(),
+                m.thumbnailImage() != null ? m.thumbnailImage() : m.image()
+        );
+    }
+
+    /**
+     * 노래 상세 정보 조회
+     * 공개 여부 조건을 쿼리에 포함해 한 번에 조회하고, 조회되지 않을 때만 존재 여부로 원인을 구분한다.
+     */
+    @Transactional(readOnly = true)
+    public MusicDetailResponse getMusicDetail(Long userId, String musicUuid){
+        MusicDetailItem music = musicRepository.findDetailVisibleTo(musicUuid, userId)
+                .orElseThrow(() -> musicRepository.existsByUuidAndNotDeleted(musicUuid)
+                        ? new BusinessException(ErrorCode.ACCESS_DENIED)
+                        : new IllegalArgumentException("노래가 존재하지 않습니다."));
+
+        MusicInfo musicInfo = new MusicInfo(
+                music.uuid(),
+                music.title(),
+                music.artist(),
+                music.message(),
+                music.url(),
+                music.urlStatus(),
+                music.writer(),
+                music.image(),
+                music.thumbnailImage() != null ? music.thumbnailImage() : music.image());
+
+        // 삭제 권한은 앨범 주인 여부와 같다. (canDeleteMusic 기준)
+        return new MusicDetailResponse(musicInfo, new MusicDetailResponse.Flag(music.owner(), music.owner()));
     }
 
     /**
@@ -166,9 +394,10 @@ public class MusicService {
 
         Album album = music.getAlbum();
 
-        album.removeMusic(music);
-
+        albumRepository.decreaseMusicCount(album.getId(), LocalDateTime.now());
         musicRepository.deleteByUuid(musicUuid);
+        imageReferenceService.release(music.getImage());
+        musicPageCache.evict(album.getUuid());
     }
 
 }
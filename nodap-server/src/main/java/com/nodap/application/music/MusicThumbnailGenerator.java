@@ -0,0 +1,91 @@
+package com.nodap.application.music;
+
+import com.nodap.domain.music.repository.MusicRepository;
+import com.nodap.infrastructure.external.ImageVariantService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 수록곡 이미지 썸네일 백그라운드 생성
+ * 노래 등록 트랜잭션이 커밋된 뒤 썸네일을 만들어 musics.thumbnail_image에 반영한다.
+ * 생성 전이거나 실패한 경우 목록에는 원본 이미지가 노출된다.
+ */
+@Slf4j
+@Component
+public class MusicThumbnailGenerator {
+
+    private final ImageVariantService imageVariantService;
+    private final MusicRepository musicRepository;
+    private final MusicPageCache musicPageCache;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Counter generated;
+    private final Counter skipped;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Timer duration;
+
+    public MusicThumbnailGenerator(ImageVariantService imageVariantService,
+                                   MusicRepository musicRepository,
+                                   MusicPageCache musicPageCache,
+                                   @Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor executor,
+                                   MeterRegistry meterRegistry) {
+        this.imageVariantService = imageVariantService;
+        this.musicRepository = musicRepository;
+        this.musicPageCache = musicPageCache;
+        this.executor = executor;
+
+        this.generated = meterRegistry.counter("image.variant.jobs", "result", "generated");
+        this.skipped = meterRegistry.counter("image.variant.jobs", "result", "skipped");
+        this.failed = meterRegistry.counter("image.variant.jobs", "result", "failed");
+        this.rejected = meterRegistry.counter("image.variant.jobs", "result", "rejected");
+        this.duration = meterRegistry.timer("image.variant.duration");
+        Gauge.builder("image.variant.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("썸네일 생성 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("image.variant.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("썸네일 생성 중인 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 노래 등록 커밋 이후 썸네일 생성 작업 등록
+     */
+    @TransactionalEventListener
+    public void onMusicCreated(MusicCreatedEvent event) {
+        try {
+            executor.execute(() -> generate(event.musicId(), event.image()));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("[Music] 썸네일 생성 작업 큐 포화: musicId={}", event.musicId());
+        }
+    }
+
+    private void generate(Long musicId, String image) {
+        duration.record(() -> {
+            try {
+                Optional<String> thumbnail = imageVariantService.createThumbnail(image);
+                if (thumbnail.isEmpty()) {
+                    skipped.increment();
+                    return;
+                }
+                musicRepository.updateThumbnailImage(musicId, thumbnail.get());
+                musicPageCache.evictByMusicId(musicId);
+                generated.increment();
+            } catch (Exception e) {
+                failed.increment();
+                log.warn("[Music] 썸네일 생성 실패: musicId={}, image={}, error={}", musicId, image, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,208 @@
+package com.nodap.application.music;
+
+import com.nodap.domain.music.repository.MusicRepository;
+import com.nodap.domain.music.repository.PendingMusicItem;
+import com.nodap.domain.music.type.MusicUrlStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수록곡 MV URL 백그라운드 확인
+ * 노래 등록 트랜잭션이 커밋된 뒤 YouTube 검색을 수행하고 결과를 musics.url에 반영한다.
+ */
+@Slf4j
+@Component
+public class MusicUrlResolver {
+
+    /**
+     * MV를 찾기 전/찾지 못했을 때 노출하는 기본 URL
+     */
+    public static final String FALLBACK_URL = "https://www.youtube.com";
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 500;
+    private static final Duration STALE_PENDING_AFTER = Duration.ofMinutes(5);
+    private static final Duration PENDING_EXPIRES_AFTER = Duration.ofDays(1);
+    private static final int STALE_PENDING_BATCH_SIZE = 50;
+
+    /**
+     * 진행 중 표시를 믿는 최대 시간
+     * 작업 큐 거절 등으로 완료 처리가 누락되어도 이 시간이 지나면 다시 제출할 수 있다.
+     */
+    private static final Duration IN_FLIGHT_EXPIRES_AFTER = Duration.ofMinutes(10);
+
+    private final MusicVideoSearchPort musicVideoSearchPort;
+    private final MusicRepository musicRepository;
+    private final MusicPageCache musicPageCache;
+    private final Executor executor;
+
+    /**
+     * 확인 중인 수록곡 ID → 제출 시각 (nanoTime)
+     * 백오프 재시도를 기다리는 수록곡을 재처리 스케줄러가 다시 제출해 같은 검색을 중복 호출하지 않도록 한다.
+     */
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    public MusicUrlResolver(MusicVideoSearchPort musicVideoSearchPort,
+                            MusicRepository musicRepository,
+                            MusicPageCache musicPageCache,
+                            @Qualifier("musicUrlResolverExecutor") Executor executor) {
+        this.musicVideoSearchPort = musicVideoSearchPort;
+        this.musicRepository = musicRepository;
+        this.musicPageCache = musicPageCache;
+        this.executor = executor;
+    }
+
+    /**
+     * 노래 등록 커밋 이후 URL 확인 작업 등록
+     */
+    @TransactionalEventListener
+    public void onMusicCreated(MusicCreatedEvent event) {
+        submit(event.musicId(), event.artist(), event.title());
+    }
+
+    /**
+     * 큐 포화, 쿼터 소진, 서버 재시작으로 PENDING 상태에 남은 수록곡 재처리
+     * 하루가 지나도록 확인하지 못한 수록곡은 FAILED로 정리한다.
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 60_000)
+    public void retryStalePending() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int expired = musicRepository.updateUrlStatusCreatedBefore(
+                MusicUrlStatus.PENDING, MusicUrlStatus.FAILED, now.minus(PENDING_EXPIRES_AFTER));
+        if (expired > 0) {
+            log.warn("[Music] 장기 PENDING 수록곡 FAILED 처리: count={}", expired);
+        }
+
+        List<PendingMusicItem> staleMusics = musicRepository.findByUrlStatusCreatedBefore(
+                MusicUrlStatus.PENDING,
+                now.minus(STALE_PENDING_AFTER),
+                PageRequest.of(0, STALE_PENDING_BATCH_SIZE));
+
+        if (staleMusics.isEmpty()) {
+            return;
+        }
+
+        log.info("[Music] PENDING 상태 수록곡 재처리: count={}", staleMusics.size());
+        staleMusics.forEach(music -> submit(music.id(), music.artist(), music.title()));
+    }
+
+    /**
+     * URL 확인 작업 제출 (이미 확인 중인 수록곡은 건너뜀)
+     */
+    private void submit(Long musicId, String artist, String title) {
+        if (!markInFlight(musicId)) {
+            log.debug("[Music] 이미 MV URL 확인 중: musicId={}", musicId);
+            return;
+        }
+
+        try {
+            executor.execute(() -> resolve(musicId, artist, title, 1));
+        } catch (RejectedExecutionException e) {
+            // 버려진 작업은 PENDING 상태로 남아 retryStalePending에서 다시 처리된다.
+            inFlight.remove(musicId);
+            log.warn("[Music] MV URL 확인 작업 큐 포화: musicId={}", musicId);
+        }
+    }
+
+    private boolean markInFlight(Long musicId) {
+        long now = System.nanoTime();
+        Long submittedAt = inFlight.putIfAbsent(musicId, now);
+        if (submittedAt == null) {
+            return true;
+        }
+        return now - submittedAt > IN_FLIGHT_EXPIRES_AFTER.toNanos() && inFlight.replace(musicId, submittedAt, now);
+    }
+
+    /**
+     * 비동기 검색 후 결과 반영
+     * 검색을 기다리는 동안 작업 스레드를 점유하지 않고, 결과 반영과 재시도만 작업 스레드 풀에서 실행한다.
+     */
+    private void resolve(Long musicId, String artist, String title, int attempt) {
+        CompletableFuture<Optional<String>> search;
+        try {
+            search = musicVideoSearchPort.searchAsync(artist, title);
+        } catch (RuntimeException e) {
+            search = CompletableFuture.failedFuture(e);
+        }
+
+        search.whenCompleteAsync((videoUrl, error) -> {
+            boolean retryScheduled = false;
+            try {
+                if (error == null) {
+                    applyResult(musicId, videoUrl);
+                } else {
+                    retryScheduled = handleFailure(musicId, artist, title, attempt, unwrap(error));
+                }
+            } finally {
+                if (!retryScheduled) {
+                    inFlight.remove(musicId);
+                }
+            }
+        }, executor);
+    }
+
+    private void applyResult(Long musicId, Optional<String> videoUrl) {
+        if (videoUrl.isEmpty() || videoUrl.get().isBlank()) {
+            musicRepository.updateUrl(musicId, FALLBACK_URL, MusicUrlStatus.NOT_FOUND);
+            musicPageCache.evictByMusicId(musicId);
+            log.debug("[Music] MV 검색 결과 없음: musicId={}", musicId);
+            return;
+        }
+
+        musicRepository.updateUrl(musicId, videoUrl.get(), MusicUrlStatus.RESOLVED);
+        musicPageCache.evictByMusicId(musicId);
+        log.debug("[Music] MV URL 확인 완료: musicId={}, url={}", musicId, videoUrl.get());
+    }
+
+    /**
+     * 실패 처리 (지수 백오프 재시도)
+     *
+     * @return 재시도를 예약했으면 true (확인 중 상태 유지)
+     */
+    private boolean handleFailure(Long musicId, String artist, String title, int attempt, Throwable error) {
+        if (error instanceof MusicVideoSearchUnavailableException) {
+            // 쿼터 소진/차단 중에는 기본 URL을 유지한 채 PENDING으로 두고 주기적인 재처리에 맡긴다.
+            log.debug("[Music] MV 검색 보류: musicId={}, reason={}", musicId, error.getMessage());
+            return false;
+        }
+
+        log.warn("[Music] MV 검색 실패: musicId={}, attempt={}/{}, error={}",
+                musicId, attempt, MAX_ATTEMPTS, error.getMessage());
+
+        if (attempt >= MAX_ATTEMPTS) {
+            musicRepository.updateUrl(musicId, FALLBACK_URL, MusicUrlStatus.FAILED);
+            musicPageCache.evictByMusicId(musicId);
+            log.error("[Music] MV URL 확인 재시도 초과: musicId={}", musicId);
+            return false;
+        }
+
+        long backoffMillis = INITIAL_BACKOFF_MILLIS << (attempt - 1);
+        CompletableFuture.delayedExecutor(backoffMillis, TimeUnit.MILLISECONDS, executor)
+                .execute(() -> resolve(musicId, artist, title, attempt + 1));
+        return true;
+    }
+
+    private Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+}
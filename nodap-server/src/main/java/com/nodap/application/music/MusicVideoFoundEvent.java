@@ -0,0 +1,20 @@
+package com.nodap.application.music;
+
+/**
+ * 외부 검색으로 MV를 찾았을 때 발행되는 이벤트
+ * 노래 카탈로그 적재에 사용한다.
+ *
+ * @param artist       검색에 사용한 가수명
+ * @param title        검색에 사용한 노래 제목
+ * @param videoId      YouTube 영상 ID
+ * @param videoTitle   YouTube 영상 제목
+ * @param thumbnailUrl 썸네일 URL
+ */
+public record MusicVideoFoundEvent(
+        String artist,
+        String title,
+        String videoId,
+        String videoTitle,
+        String thumbnailUrl
+) {
+}
@@ -1,14 +1,38 @@
 package com.nodap.application.music;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 public interface MusicVideoSearchPort {
 
     /**
      * 아티스트와 제목을 기반으로
-     * 공식 MV URL을 반환한다.
+     * 공식 MV URL을 비동기로 조회한다.
+     * 호출 스레드는 원격 I/O를 기다리지 않는다.
+     *
+     * @param artist 가수명
+     * @param title  노래 제목
+     * @return 영상 URL (검색 결과가 없으면 빈 Optional)
+     */
+    CompletableFuture<Optional<String>> searchAsync(String artist, String title);
+
+    /**
+     * 아티스트와 제목을 기반으로
+     * 공식 MV URL을 반환한다. (결과가 나올 때까지 호출 스레드가 대기)
      *
      * @param artist 가수명
      * @param title  노래 제목
      * @return 영상 URL
      */
-    String search(String artist, String title);
+    default String search(String artist, String title) {
+        try {
+            return searchAsync(artist, title).join().orElse(null);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.nodap.application.music;
+
+/**
+ * MV 검색 외부 API를 일시적으로 사용할 수 없음
+ * 쿼터 소진이나 장애 차단(circuit open)으로 호출 자체를 하지 않은 경우에 발생한다.
+ */
+public class MusicVideoSearchUnavailableException extends RuntimeException {
+
+    public MusicVideoSearchUnavailableException(String message) {
+        super(message);
+    }
+}
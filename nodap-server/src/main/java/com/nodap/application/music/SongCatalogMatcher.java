@@ -0,0 +1,166 @@
+package com.nodap.application.music;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 노래 카탈로그 유사도 계산
+ * 띄어쓰기를 무시하고 한글은 초성/중성/종성 자모로 분해한 뒤,
+ * 편집 거리 기반 유사도와 트라이그램 유사도를 가중 평균한다.
+ * 숫자가 다른 제목(교향곡 5번/9번, 속편 등)은 글자가 비슷해도 다른 노래로 본다.
+ */
+public final class SongCatalogMatcher {
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final double EDIT_WEIGHT = 0.7;
+    private static final double TRIGRAM_WEIGHT = 0.3;
+
+    /**
+     * 가수명 최소 유사도
+     */
+    static final double ARTIST_THRESHOLD = 0.85;
+
+    /**
+     * 제목 최소 유사도 (제목은 짧고 한두 글자로 다른 노래가 되므로 가수명보다 엄격하게 본다)
+     */
+    static final double TITLE_THRESHOLD = 0.9;
+
+    private SongCatalogMatcher() {
+    }
+
+    /**
+     * 검색 키와 카탈로그 후보의 매칭 점수 (0.0 ~ 1.0)
+     * 가수명/제목 중 하나라도 기준 미만이거나 숫자 구성이 다르면 0을 반환한다.
+     */
+    public static double score(MusicSearchKey key, String artistKey, String titleKey) {
+        if (!digits(key.artist()).equals(digits(artistKey)) || !digits(key.title()).equals(digits(titleKey))) {
+            return 0.0;
+        }
+
+        double artistSimilarity = similarity(key.artist(), artistKey);
+        double titleSimilarity = similarity(key.title(), titleKey);
+        if (artistSimilarity < ARTIST_THRESHOLD || titleSimilarity < TITLE_THRESHOLD) {
+            return 0.0;
+        }
+        return Math.min(artistSimilarity, titleSimilarity);
+    }
+
+    /**
+     * 두 정규화 문자열의 유사도 (0.0 ~ 1.0)
+     */
+    public static double similarity(String a, String b) {
+        if (a.equals(b)) {
+            return 1.0;
+        }
+
+        String jamoA = decompose(a);
+        String jamoB = decompose(b);
+        if (jamoA.equals(jamoB)) {
+            return 1.0;
+        }
+        if (jamoA.isEmpty() || jamoB.isEmpty()) {
+            return 0.0;
+        }
+
+        double editSimilarity = 1.0 - (double) levenshtein(jamoA, jamoB) / Math.max(jamoA.length(), jamoB.length());
+        return EDIT_WEIGHT * editSimilarity + TRIGRAM_WEIGHT * trigramSimilarity(jamoA, jamoB);
+    }
+
+    /**
+     * 공백을 제거하고 한글 음절을 자모 단위로 분해 (예: "한 글" → "ㅎㅏㄴㄱㅡㄹ")
+     */
+    static String decompose(String value) {
+        StringBuilder builder = new StringBuilder(value.length() * 3);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < HANGUL_BASE || c > HANGUL_LAST) {
+                builder.append(c);
+                continue;
+            }
+
+            int index = c - HANGUL_BASE;
+            int jongseong = index % JONGSEONG_COUNT;
+            builder.append((char) (0x1100 + index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+            builder.append((char) (0x1161 + (index / JONGSEONG_COUNT) % JUNGSEONG_COUNT));
+            if (jongseong != 0) {
+                builder.append((char) (0x11A7 + jongseong));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 문자열에 포함된 숫자열 목록 (예: "symphony no.5 op.67" → [5, 67])
+     */
+    static List<String> digits(String value) {
+        List<String> digits = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= value.length(); i++) {
+            boolean digit = i < value.length() && Character.isDigit(value.charAt(i));
+            if (digit && start < 0) {
+                start = i;
+            } else if (!digit && start >= 0) {
+                digits.add(stripLeadingZeros(value.substring(start, i)));
+                start = -1;
+            }
+        }
+        return digits;
+    }
+
+    private static String stripLeadingZeros(String digits) {
+        int i = 0;
+        while (i < digits.length() - 1 && digits.charAt(i) == '0') {
+            i++;
+        }
+        return digits.substring(i);
+    }
+
+    static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    static double trigramSimilarity(String a, String b) {
+        Set<String> trigramsA = trigrams(a);
+        Set<String> trigramsB = trigrams(b);
+
+        Set<String> intersection = new HashSet<>(trigramsA);
+        intersection.retainAll(trigramsB);
+
+        int union = trigramsA.size() + trigramsB.size() - intersection.size();
+        return union == 0 ? 0.0 : (double) intersection.size() / union;
+    }
+
+    private static Set<String> trigrams(String value) {
+        String padded = "  " + value + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,77 @@
+package com.nodap.application.music;
+
+import com.nodap.domain.music.entity.SongCatalog;
+import com.nodap.domain.music.repository.SongCatalogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * 노래 카탈로그 조회/적재
+ * 이미 확인한 (가수, 제목)은 외부 검색 없이 로컬 카탈로그에서 MV URL을 찾는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongCatalogService {
+
+    private static final int MAX_CANDIDATES = 200;
+
+    private final SongCatalogRepository songCatalogRepository;
+
+    /**
+     * 카탈로그에서 MV URL 조회
+     * 정규화 키가 정확히 일치하거나, 가수/제목 중 하나가 일치하고 나머지가 충분히 유사하면 반환한다.
+     * 유사 매칭 기준은 {@link SongCatalogMatcher#score}를 따른다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findVideoUrl(String artist, String title) {
+        MusicSearchKey key = MusicSearchKey.of(artist, title);
+
+        Optional<SongCatalog> exact = songCatalogRepository.findByFingerprint(key.value());
+        if (exact.isPresent()) {
+            return exact.map(SongCatalog::getVideoUrl);
+        }
+
+        return songCatalogRepository
+                .findCandidates(key.artist(), key.title(), PageRequest.of(0, MAX_CANDIDATES))
+                .stream()
+                .map(candidate -> new ScoredCandidate(candidate,
+                        SongCatalogMatcher.score(key, candidate.getArtistKey(), candidate.getTitleKey())))
+                .filter(scored -> scored.score() > 0)
+                .max(Comparator.comparingDouble(ScoredCandidate::score))
+                .map(scored -> {
+                    log.debug("[Catalog] 유사 매칭: key={}, matched={}, score={}",
+                            key.value(), scored.catalog().getFingerprint(), scored.score());
+                    return scored.catalog().getVideoUrl();
+                });
+    }
+
+    /**
+     * 외부 검색 성공 결과를 카탈로그에 적재
+     */
+    @EventListener
+    public void onMusicVideoFound(MusicVideoFoundEvent event) {
+        MusicSearchKey key = MusicSearchKey.of(event.artist(), event.title());
+        if (key.artist().isEmpty() || key.title().isEmpty()) {
+            return;
+        }
+
+        try {
+            songCatalogRepository.upsert(key.value(), key.artist(), key.title(),
+                    event.videoId(), event.videoTitle(), event.thumbnailUrl());
+        } catch (RuntimeException e) {
+            // 카탈로그 적재 실패는 MV 검색 결과에 영향을 주지 않는다.
+            log.warn("[Catalog] 카탈로그 적재 실패: key={}, error={}", key.value(), e.getMessage());
+        }
+    }
+
+    private record ScoredCandidate(SongCatalog catalog, double score) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.nodap.application.user;
 
+import com.nodap.application.image.ImageReferenceService;
 import com.nodap.domain.user.entity.Provider;
 import com.nodap.domain.user.entity.User;
 import com.nodap.domain.user.entity.UserOauthAccount;
@@ -33,6 +34,7 @@ public class UserService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final CookieProvider cookieProvider;
     private final KakaoOAuthClient kakaoOAuthClient;
+    private final ImageReferenceService imageReferenceService;
 
     /**
      * 현재 로그인한 사용자 정보 조회
@@ -78,7 +80,10 @@ public class UserService {
             user.updateEmail(request.email());
         }
         
-        if (profileImageUrl != null && !profileImageUrl.isBlank()) {
+        if (profileImageUrl != null && !profileImageUrl.isBlank()
+                && !profileImageUrl.equals(user.getProfileImage())) {
+            imageReferenceService.release(user.getProfileImage());
+            imageReferenceService.retain(profileImageUrl);
             user.updateProfileImage(profileImageUrl);
         }
 
@@ -48,7 +48,10 @@ public class Album extends BaseTimeEntity {
     @Column(name = "is_public", nullable = false)
     private Boolean isPublic;
 
-    @Column(name = "music_count", nullable = false)
+    /**
+     * 수록곡 수 (AlbumRepository의 원자적 UPDATE로만 변경)
+     */
+    @Column(name = "music_count", nullable = false, updatable = false)
     private Integer musicCount;
 
     @Column(name = "music_count_limit")
@@ -97,38 +100,6 @@ public class Album extends BaseTimeEntity {
         this.musicCountLimit = musicCountLimit;
     }
 
-    /**
-     * 음악 추가 시 카운트 증가
-     */
-    public void incrementMusicCount() {
-        this.musicCount++;
-    }
-
-    /**
-     * 음악 삭제 시 카운트 감소
-     */
-    public void decrementMusicCount() {
-        if (this.musicCount > 0) {
-            this.musicCount--;
-        }
-    }
-
-    /**
-     * 음악 추가 (연관관계 편의 메서드)
-     */
-    public void addMusic(Music music) {
-        this.musics.add(music);
-        incrementMusicCount();
-    }
-
-    /**
-     * 음악 제거 (연관관계 편의 메서드)
-     */
-    public void removeMusic(Music music) {
-        this.musics.remove(music);
-        decrementMusicCount();
-    }
-
     /**
      * 추천 노래 추가 가능 여부 확인
      * 
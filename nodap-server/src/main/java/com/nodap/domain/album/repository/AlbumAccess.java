@@ -0,0 +1,60 @@
+package com.nodap.domain.album.repository;
+
+import com.nodap.domain.album.entity.Album;
+
+import java.time.LocalDateTime;
+
+/**
+ * 앨범 접근 정보 프로젝션
+ * 공개 여부, 수록곡 수, 요청자의 주인 여부를 한 번의 조회로 읽는다. (수록곡 조회 API용)
+ */
+public record AlbumAccess(
+        Long id,
+        String uuid,
+        Boolean isPublic,
+        Integer musicCount,
+        Integer musicCountLimit,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Boolean owner
+) {
+
+    /**
+     * 이미 조회한 앨범 엔티티로 접근 정보 구성 (주인 여부는 FK로 판단해 사용자 프록시를 초기화하지 않음)
+     */
+    public static AlbumAccess of(Album album, Long userId) {
+        return new AlbumAccess(
+                album.getId(),
+                album.getUuid(),
+                album.getIsPublic(),
+                album.getMusicCount(),
+                album.getMusicCountLimit(),
+                album.getCreatedAt(),
+                album.getUpdatedAt(),
+                userId != null && userId.equals(album.getUser().getId()));
+    }
+
+    /**
+     * 조회 가능 여부 (비공개 앨범은 주인만 조회 가능)
+     */
+    public boolean isReadable() {
+        return isPublic || owner;
+    }
+
+    /**
+     * 추천 노래 추가 가능 여부 (Album.canAddMusic과 같은 기준, 0은 무한)
+     */
+    public boolean canAddMusic() {
+        return canAddMusics(1);
+    }
+
+    /**
+     * 추천 노래 count곡을 더 추가할 수 있는지 여부 (0은 무한)
+     */
+    public boolean canAddMusics(int count) {
+        if (musicCountLimit == null || musicCountLimit == 0) {
+            return true;
+        }
+        return musicCount + count <= musicCountLimit;
+    }
+}
@@ -0,0 +1,12 @@
+package com.nodap.domain.album.repository;
+
+/**
+ * 앨범 목록 조회용 프로젝션
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 목록에 필요한 컬럼만 읽는다. (description TEXT 제외)
+ */
+public record AlbumListItem(
+        String uuid,
+        String title,
+        String color
+) {
+}
@@ -3,11 +3,15 @@ package com.nodap.domain.album.repository;
 import com.nodap.domain.album.entity.Album;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +32,15 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
     @Query("SELECT a FROM Album a WHERE a.uuid = :uuid AND a.deletedAt IS NULL")
     Optional<Album> findByUuidAndNotDeleted(@Param("uuid") String uuid);
 
+    /**
+     * UUID로 앨범 접근 정보 조회 (삭제되지 않은 것만, userId가 null이면 주인 아님)
+     */
+    @Query("SELECT new com.nodap.domain.album.repository.AlbumAccess(" +
+            "a.id, a.uuid, a.isPublic, a.musicCount, a.musicCountLimit, a.createdAt, a.updatedAt, " +
+            "CASE WHEN a.user.id = :userId THEN true ELSE false END) " +
+            "FROM Album a WHERE a.uuid = :uuid AND a.deletedAt IS NULL")
+    Optional<AlbumAccess> findAccessByUuid(@Param("uuid") String uuid, @Param("userId") Long userId);
+
     /**
      * 사용자 ID로 앨범 목록 조회 (삭제되지 않은 것만)
      */
@@ -37,8 +50,17 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
     /**
      * 사용자 ID로 앨범 목록 페이징 조회 (삭제되지 않은 것만)
      */
-    @Query("SELECT a FROM Album a WHERE a.user.id = :userId AND a.deletedAt IS NULL")
-    Page<Album> findByUserIdAndNotDeleted(@Param("userId") Long userId, Pageable pageable);
+    @Query(value = "SELECT new com.nodap.domain.album.repository.AlbumListItem(a.uuid, a.title, a.color) " +
+            "FROM Album a WHERE a.user.id = :userId AND a.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(a) FROM Album a WHERE a.user.id = :userId AND a.deletedAt IS NULL")
+    Page<AlbumListItem> findByUserIdAndNotDeleted(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 ID로 앨범 목록 Slice 조회 (COUNT 쿼리 없음, 전체 개수는 users.album_count 사용)
+     */
+    @Query("SELECT new com.nodap.domain.album.repository.AlbumListItem(a.uuid, a.title, a.color) " +
+            "FROM Album a WHERE a.user.id = :userId AND a.deletedAt IS NULL")
+    Slice<AlbumListItem> findSliceByUserIdAndNotDeleted(@Param("userId") Long userId, Pageable pageable);
 
     /**
      * 공개 앨범 목록 조회 (삭제되지 않은 것만)
@@ -52,6 +74,39 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
     @Query("SELECT COUNT(a) FROM Album a WHERE a.user.id = :userId AND a.deletedAt IS NULL")
     long countByUserIdAndNotDeleted(@Param("userId") Long userId);
 
+    /**
+     * 수록곡 수 증가 (추천 노래 갯수 제한 이내일 때만, 0은 무한)
+     * 확인과 증가를 하나의 UPDATE로 처리하므로 동시 등록에도 제한을 넘지 않는다.
+     *
+     * @return 1이면 증가 성공, 0이면 제한 초과 또는 삭제된 앨범
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Album a SET a.musicCount = a.musicCount + :count, a.updatedAt = :now " +
+            "WHERE a.id = :albumId AND a.deletedAt IS NULL " +
+            "AND (a.musicCountLimit IS NULL OR a.musicCountLimit = 0 OR a.musicCount + :count <= a.musicCountLimit)")
+    int increaseMusicCount(@Param("albumId") Long albumId, @Param("count") int count, @Param("now") LocalDateTime now);
+
+    /**
+     * 앨범 삭제 처리 (Soft Delete, 아직 삭제되지 않은 경우에만)
+     * 삭제 여부 확인과 삭제를 하나의 UPDATE로 처리하므로 동시 삭제에도 한 요청만 성공한다.
+     *
+     * @return 1이면 삭제 성공, 0이면 이미 삭제된 앨범
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Album a SET a.deletedAt = :now, a.updatedAt = :now WHERE a.id = :albumId AND a.deletedAt IS NULL")
+    int softDelete(@Param("albumId") Long albumId, @Param("now") LocalDateTime now);
+
+    /**
+     * 수록곡 수 감소 (0 아래로 내려가지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Album a SET a.musicCount = a.musicCount - 1, a.updatedAt = :now " +
+            "WHERE a.id = :albumId AND a.musicCount > 0")
+    int decreaseMusicCount(@Param("albumId") Long albumId, @Param("now") LocalDateTime now);
+
     /**
      *  앨범의 소유주인지 조회
      */
@@ -0,0 +1,36 @@
+package com.nodap.domain.image.entity;
+
+import com.nodap.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 객체 엔티티
+ * 내용 주소 키로 저장된 S3 이미지를 몇 곳에서 참조하는지 관리
+ */
+@Entity
+@Table(name = "image_objects")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageObject extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, unique = true, length = 256)
+    private String objectKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    /**
+     * 업로드/확인 요청이 이 객체 키를 마지막으로 돌려준 시각 (중복 업로드 보호용)
+     */
+    @Column(name = "last_claimed_at")
+    private LocalDateTime lastClaimedAt;
+}
@@ -0,0 +1,79 @@
+package com.nodap.domain.image.repository;
+
+import com.nodap.domain.image.entity.ImageObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이미지 객체 Repository
+ */
+@Repository
+public interface ImageObjectRepository extends JpaRepository<ImageObject, Long> {
+
+    /**
+     * 객체 키로 조회
+     */
+    Optional<ImageObject> findByObjectKey(String objectKey);
+
+    /**
+     * 참조 추가 (처음 참조되는 객체면 생성)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO image_objects (object_key, ref_count, created_at) " +
+            "VALUES (:objectKey, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, deleted_at = NULL",
+            nativeQuery = true)
+    void retain(@Param("objectKey") String objectKey);
+
+    /**
+     * 객체 키 사용 시각 기록 (처음 기록되는 객체면 참조 없이 생성)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO image_objects (object_key, ref_count, last_claimed_at, created_at) " +
+            "VALUES (:objectKey, 0, :claimedAt, :claimedAt) " +
+            "ON DUPLICATE KEY UPDATE last_claimed_at = :claimedAt, deleted_at = NULL",
+            nativeQuery = true)
+    void claim(@Param("objectKey") String objectKey, @Param("claimedAt") LocalDateTime claimedAt);
+
+    /**
+     * 참조 해제 (0 아래로 내려가지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE image_objects SET ref_count = ref_count - 1 " +
+            "WHERE object_key = :objectKey AND ref_count > 0",
+            nativeQuery = true)
+    int release(@Param("objectKey") String objectKey);
+
+    /**
+     * 주어진 키 중 참조가 남아 있는 것 조회 (고아 이미지 정리용)
+     */
+    @Query("SELECT o.objectKey FROM ImageObject o WHERE o.objectKey IN :objectKeys AND o.refCount > 0")
+    List<String> findReferencedKeys(@Param("objectKeys") Collection<String> objectKeys);
+
+    /**
+     * 주어진 키 중 기준 시각 이후 사용된 것 조회 (고아 이미지 정리 유예 기간 판단용)
+     */
+    @Query("SELECT o.objectKey FROM ImageObject o WHERE o.objectKey IN :objectKeys AND o.lastClaimedAt >= :since")
+    List<String> findClaimedKeysSince(@Param("objectKeys") Collection<String> objectKeys,
+                                      @Param("since") LocalDateTime since);
+
+    /**
+     * 참조가 없는 객체 기록 삭제 (S3 객체 삭제 후)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageObject o WHERE o.objectKey IN :objectKeys AND o.refCount = 0")
+    int deleteUnreferenced(@Param("objectKeys") Collection<String> objectKeys);
+}
@@ -1,6 +1,7 @@
 package com.nodap.domain.music.entity;
 
 import com.nodap.domain.album.entity.Album;
+import com.nodap.domain.music.type.MusicUrlStatus;
 import com.nodap.global.common.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -43,30 +44,32 @@ public class Music extends BaseTimeEntity {
     @Column(name = "url", nullable = false, length = 512)
     private String url;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "url_status", nullable = false, length = 20)
+    private MusicUrlStatus urlStatus;
+
     @Column(name = "writer", nullable = false, length = 64)
     private String writer;
 
     @Column(name = "image", nullable = false, length = 512)
     private String image;
 
+    @Column(name = "thumbnail_image", length = 512)
+    private String thumbnailImage;
 
 
     @Builder
-    public Music(Album album, String title, String artist, String message, String url, String writer,
-                 String image) {
+    public Music(Album album, String title, String artist, String message, String url, MusicUrlStatus urlStatus,
+                 String writer, String image) {
         this.uuid = UUID.randomUUID().toString();
         this.album = album;
         this.title = title;
         this.artist = artist;
         this.message = message;
         this.url = url;
+        this.urlStatus = urlStatus != null ? urlStatus : MusicUrlStatus.RESOLVED;
         this.writer = writer;
         this.image = image;
-
-        // 양방향 연관관계 설정
-        if (album != null) {
-            album.addMusic(this);
-        }
     }
 
     /**
@@ -0,0 +1,49 @@
+package com.nodap.domain.music.entity;
+
+import com.nodap.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노래 카탈로그 엔티티
+ * YouTube에서 확인한 MV 정보를 정규화된 (가수, 제목) 기준으로 보관
+ */
+@Entity
+@Table(name = "song_catalog")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SongCatalog extends BaseTimeEntity {
+
+    private static final String WATCH_URL_PREFIX = "https://www.youtube.com/watch?v=";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "fingerprint", nullable = false, unique = true, length = 200)
+    private String fingerprint;
+
+    @Column(name = "artist_key", nullable = false, length = 64)
+    private String artistKey;
+
+    @Column(name = "title_key", nullable = false, length = 128)
+    private String titleKey;
+
+    @Column(name = "video_id", nullable = false, length = 32)
+    private String videoId;
+
+    @Column(name = "video_title", length = 256)
+    private String videoTitle;
+
+    @Column(name = "thumbnail_url", length = 512)
+    private String thumbnailUrl;
+
+    /**
+     * MV 시청 URL
+     */
+    public String getVideoUrl() {
+        return WATCH_URL_PREFIX + videoId;
+    }
+}
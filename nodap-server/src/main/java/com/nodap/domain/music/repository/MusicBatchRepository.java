@@ -0,0 +1,60 @@
+package com.nodap.domain.music.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수록곡 JDBC 배치 Repository
+ * Music은 IDENTITY 전략이라 Hibernate 배치 INSERT가 동작하지 않으므로 일괄 등록은 JDBC로 처리한다.
+ * rewriteBatchedStatements=true면 드라이버가 다중 VALUES INSERT 한 번으로 전송한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MusicBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO musics (uuid, album_id, title, artist, message, url, url_status, writer, image, created_at, updated_at)
+            VALUES (:uuid, :albumId, :title, :artist, :message, :url, :urlStatus, :writer, :image, :now, :now)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 수록곡 일괄 저장
+     * 영속성 컨텍스트를 거치지 않으므로 호출한 트랜잭션에서 저장한 수록곡을 엔티티로 다시 읽지 않는다.
+     *
+     * @return 생성된 수록곡 ID (입력 순서)
+     */
+    public List<Long> insertAll(Long albumId, List<NewMusic> musics) {
+        LocalDateTime now = LocalDateTime.now();
+
+        SqlParameterSource[] params = musics.stream()
+                .map(music -> new MapSqlParameterSource()
+                        .addValue("uuid", music.uuid())
+                        .addValue("albumId", albumId)
+                        .addValue("title", music.title())
+                        .addValue("artist", music.artist())
+                        .addValue("message", music.message())
+                        .addValue("url", music.url())
+                        .addValue("urlStatus", music.urlStatus().name())
+                        .addValue("writer", music.writer())
+                        .addValue("image", music.image())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"id"});
+
+        return keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -0,0 +1,21 @@
+package com.nodap.domain.music.repository;
+
+import com.nodap.domain.music.type.MusicUrlStatus;
+
+/**
+ * 수록곡 상세 조회용 프로젝션
+ * 수록곡과 앨범을 한 번에 조인해 상세 응답과 요청자의 주인 여부를 읽는다.
+ */
+public record MusicDetailItem(
+        String uuid,
+        String title,
+        String artist,
+        String message,
+        String url,
+        MusicUrlStatus urlStatus,
+        String writer,
+        String image,
+        String thumbnailImage,
+        Boolean owner
+) {
+}
@@ -0,0 +1,25 @@
+package com.nodap.domain.music.repository;
+
+import com.nodap.domain.music.type.MusicUrlStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수록곡 목록 조회용 프로젝션
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 목록에 필요한 컬럼만 읽는다.
+ * id/createdAt은 응답에 나가지 않고 커서 생성에만 쓴다.
+ */
+public record MusicListItem(
+        Long id,
+        String uuid,
+        String title,
+        String artist,
+        String message,
+        String url,
+        MusicUrlStatus urlStatus,
+        String writer,
+        String image,
+        String thumbnailImage,
+        LocalDateTime createdAt
+) {
+}
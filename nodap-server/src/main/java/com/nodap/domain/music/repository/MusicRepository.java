@@ -2,13 +2,19 @@ package com.nodap.domain.music.repository;
 
 import com.nodap.domain.album.entity.Album;
 import com.nodap.domain.music.entity.Music;
+import com.nodap.domain.music.type.MusicUrlStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +29,25 @@ public interface MusicRepository extends JpaRepository<Music, Long> {
      */
     Optional<Music> findByUuid(String uuid);
 
+    /**
+     * 상세 조회 (공개 앨범이거나 요청자가 앨범 주인일 때만, 삭제되지 않은 것만)
+     * userId가 null이면 공개 앨범의 수록곡만 조회된다.
+     */
+    @Query("SELECT new com.nodap.domain.music.repository.MusicDetailItem(" +
+            "m.uuid, m.title, m.artist, m.message, m.url, m.urlStatus, m.writer, m.image, m.thumbnailImage, " +
+            "CASE WHEN a.user.id = :userId THEN true ELSE false END) " +
+            "FROM Music m JOIN m.album a " +
+            "WHERE m.uuid = :musicUuid AND m.deletedAt IS NULL AND a.deletedAt IS NULL " +
+            "AND (a.isPublic = true OR a.user.id = :userId)")
+    Optional<MusicDetailItem> findDetailVisibleTo(@Param("musicUuid") String musicUuid, @Param("userId") Long userId);
+
+    /**
+     * 수록곡 존재 여부 (앨범 포함 삭제되지 않은 것만, 상세 조회 실패 시 원인 구분용)
+     */
+    @Query("SELECT COUNT(m) > 0 FROM Music m JOIN m.album a " +
+            "WHERE m.uuid = :musicUuid AND m.deletedAt IS NULL AND a.deletedAt IS NULL")
+    boolean existsByUuidAndNotDeleted(@Param("musicUuid") String musicUuid);
+
     /**
      * UUID로 수록곡 조회 (삭제되지 않은 것만)
      */
@@ -32,8 +57,91 @@ public interface MusicRepository extends JpaRepository<Music, Long> {
     /**
      * 앨범 ID로 수록곡 목록 조회 (삭제되지 않은 것만)
      */
-    @Query("SELECT m FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL")
-    Page<Music> findByAlbumIdAndNotDeleted(@Param("albumId") Long albumId, Pageable pageable);
+    @Query(value = "SELECT new com.nodap.domain.music.repository.MusicListItem(" +
+            "m.id, m.uuid, m.title, m.artist, m.message, m.url, m.urlStatus, m.writer, m.image, m.thumbnailImage, m.createdAt) " +
+            "FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(m) FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL")
+    Page<MusicListItem> findByAlbumIdAndNotDeleted(@Param("albumId") Long albumId, Pageable pageable);
+
+    /**
+     * 앨범 ID로 수록곡 목록 Slice 조회 (COUNT 쿼리 없음, 전체 개수는 albums.music_count 사용)
+     */
+    @Query("SELECT new com.nodap.domain.music.repository.MusicListItem(" +
+            "m.id, m.uuid, m.title, m.artist, m.message, m.url, m.urlStatus, m.writer, m.image, m.thumbnailImage, m.createdAt) " +
+            "FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL")
+    Slice<MusicListItem> findSliceByAlbumIdAndNotDeleted(@Param("albumId") Long albumId, Pageable pageable);
+
+    /**
+     * 커서 이후 수록곡 조회 - 최신순 (created_at DESC, id DESC)
+     */
+    @Query("SELECT new com.nodap.domain.music.repository.MusicListItem(" +
+            "m.id, m.uuid, m.title, m.artist, m.message, m.url, m.urlStatus, m.writer, m.image, m.thumbnailImage, m.createdAt) " +
+            "FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL " +
+            "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MusicListItem> findLatestAfter(@Param("albumId") Long albumId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /**
+     * 커서 이후 수록곡 조회 - 오래된 순 (created_at ASC, id ASC)
+     */
+    @Query("SELECT new com.nodap.domain.music.repository.MusicListItem(" +
+            "m.id, m.uuid, m.title, m.artist, m.message, m.url, m.urlStatus, m.writer, m.image, m.thumbnailImage, m.createdAt) " +
+            "FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL " +
+            "AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.id > :id)) " +
+            "ORDER BY m.createdAt ASC, m.id ASC")
+    List<MusicListItem> findOldestAfter(@Param("albumId") Long albumId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /**
+     * 커서 이후 수록곡 조회 - 제목순 (title ASC, id ASC)
+     */
+    @Query("SELECT new com.nodap.domain.music.repository.MusicListItem(" +
+            "m.id, m.uuid, m.title, m.artist, m.message, m.url, m.urlStatus, m.writer, m.image, m.thumbnailImage, m.createdAt) " +
+            "FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL " +
+            "AND (m.title > :title OR (m.title = :title AND m.id > :id)) " +
+            "ORDER BY m.title ASC, m.id ASC")
+    List<MusicListItem> findTitleAfter(@Param("albumId") Long albumId,
+                                       @Param("title") String title,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    /**
+     * 커서 이후 수록곡 조회 - 가수순 (artist ASC, id ASC, 가수 없는 곡이 먼저)
+     */
+    @Query("SELECT new com.nodap.domain.music.repository.MusicListItem(" +
+            "m.id, m.uuid, m.title, m.artist, m.message, m.url, m.urlStatus, m.writer, m.image, m.thumbnailImage, m.createdAt) " +
+            "FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL " +
+            "AND (m.artist > :artist OR (m.artist = :artist AND m.id > :id)) " +
+            "ORDER BY m.artist ASC, m.id ASC")
+    List<MusicListItem> findArtistAfter(@Param("albumId") Long albumId,
+                                        @Param("artist") String artist,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /**
+     * 커서 이후 수록곡 조회 - 가수순, 커서가 가수 없는 곡인 경우
+     */
+    @Query("SELECT new com.nodap.domain.music.repository.MusicListItem(" +
+            "m.id, m.uuid, m.title, m.artist, m.message, m.url, m.urlStatus, m.writer, m.image, m.thumbnailImage, m.createdAt) " +
+            "FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL " +
+            "AND ((m.artist IS NULL AND m.id > :id) OR m.artist IS NOT NULL) " +
+            "ORDER BY m.artist ASC, m.id ASC")
+    List<MusicListItem> findArtistAfterNullArtist(@Param("albumId") Long albumId,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    /**
+     * 첫 페이지 수록곡 조회 (커서 없음, 정렬은 pageable로 지정)
+     */
+    @Query("SELECT new com.nodap.domain.music.repository.MusicListItem(" +
+            "m.id, m.uuid, m.title, m.artist, m.message, m.url, m.urlStatus, m.writer, m.image, m.thumbnailImage, m.createdAt) " +
+            "FROM Music m WHERE m.album.id = :albumId AND m.deletedAt IS NULL")
+    List<MusicListItem> findFirstPage(@Param("albumId") Long albumId, Pageable pageable);
 
     /**
      * 앨범의 수록곡 개수 조회
@@ -52,6 +160,69 @@ public interface MusicRepository extends JpaRepository<Music, Long> {
      * uuid로 노래 삭제
      */
     void deleteByUuid(String uuid);
+
+    /**
+     * MV URL 확인 결과 반영 (백그라운드 resolver 전용)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Music m SET m.url = :url, m.urlStatus = :status WHERE m.id = :musicId")
+    int updateUrl(@Param("musicId") Long musicId, @Param("url") String url, @Param("status") MusicUrlStatus status);
+
+    /**
+     * 수록곡이 속한 앨범 uuid 조회 (목록 캐시 무효화용)
+     */
+    @Query("SELECT a.uuid FROM Music m JOIN m.album a WHERE m.id = :musicId")
+    Optional<String> findAlbumUuidById(@Param("musicId") Long musicId);
+
+    /**
+     * 앨범에 수록된 노래 이미지 URL 목록 (이미지 참조 해제용)
+     */
+    @Query("SELECT m.image FROM Music m WHERE m.album.id = :albumId")
+    List<String> findImagesByAlbumId(@Param("albumId") Long albumId);
+
+    /**
+     * 주어진 URL 중 노래 이미지로 사용 중인 것 조회 (고아 이미지 정리용)
+     * 삭제된 노래나 삭제된 앨범의 노래가 쓰는 이미지는 사용 중으로 보지 않는다.
+     */
+    @Query("SELECT m.image FROM Music m JOIN m.album a " +
+            "WHERE m.image IN :urls AND m.deletedAt IS NULL AND a.deletedAt IS NULL")
+    List<String> findImagesIn(@Param("urls") Collection<String> urls);
+
+    /**
+     * 주어진 URL 중 썸네일로 사용 중인 것 조회 (고아 이미지 정리용)
+     * 삭제된 노래나 삭제된 앨범의 노래가 쓰는 썸네일은 사용 중으로 보지 않는다.
+     */
+    @Query("SELECT m.thumbnailImage FROM Music m JOIN m.album a " +
+            "WHERE m.thumbnailImage IN :urls AND m.deletedAt IS NULL AND a.deletedAt IS NULL")
+    List<String> findThumbnailImagesIn(@Param("urls") Collection<String> urls);
+
+    /**
+     * 썸네일 생성 결과 반영 (백그라운드 썸네일 생성 전용)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Music m SET m.thumbnailImage = :thumbnailImage WHERE m.id = :musicId")
+    int updateThumbnailImage(@Param("musicId") Long musicId, @Param("thumbnailImage") String thumbnailImage);
+
+    /**
+     * 특정 시각 이전에 등록된 수록곡의 URL 확인 상태 일괄 변경
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Music m SET m.urlStatus = :to WHERE m.urlStatus = :from AND m.createdAt < :before")
+    int updateUrlStatusCreatedBefore(@Param("from") MusicUrlStatus from,
+                                     @Param("to") MusicUrlStatus to,
+                                     @Param("before") LocalDateTime before);
+
+    /**
+     * 특정 시각 이전에 등록되었지만 URL 확인 상태가 그대로인 수록곡 조회
+     */
+    @Query("SELECT new com.nodap.domain.music.repository.PendingMusicItem(m.id, m.artist, m.title) " +
+            "FROM Music m WHERE m.urlStatus = :status AND m.createdAt < :before AND m.deletedAt IS NULL ORDER BY m.id")
+    List<PendingMusicItem> findByUrlStatusCreatedBefore(@Param("status") MusicUrlStatus status,
+                                                        @Param("before") LocalDateTime before,
+                                                        Pageable pageable);
 }
 
 
@@ -0,0 +1,18 @@
+package com.nodap.domain.music.repository;
+
+import com.nodap.domain.music.type.MusicUrlStatus;
+
+/**
+ * 일괄 등록할 수록곡 (JDBC 배치 INSERT용)
+ */
+public record NewMusic(
+        String uuid,
+        String title,
+        String artist,
+        String message,
+        String url,
+        MusicUrlStatus urlStatus,
+        String writer,
+        String image
+) {
+}
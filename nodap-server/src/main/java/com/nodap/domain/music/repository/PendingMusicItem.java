@@ -0,0 +1,12 @@
+package com.nodap.domain.music.repository;
+
+/**
+ * MV URL 재확인 대상 프로젝션
+ * 재처리 스케줄러가 검색에 필요한 컬럼만 읽는다. (message 등 TEXT 컬럼 제외)
+ */
+public record PendingMusicItem(
+        Long id,
+        String artist,
+        String title
+) {
+}
@@ -0,0 +1,55 @@
+package com.nodap.domain.music.repository;
+
+import com.nodap.domain.music.entity.SongCatalog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 노래 카탈로그 Repository
+ */
+@Repository
+public interface SongCatalogRepository extends JpaRepository<SongCatalog, Long> {
+
+    /**
+     * 정규화 키로 카탈로그 조회 (삭제되지 않은 것만)
+     */
+    @Query("SELECT c FROM SongCatalog c WHERE c.fingerprint = :fingerprint AND c.deletedAt IS NULL")
+    Optional<SongCatalog> findByFingerprint(@Param("fingerprint") String fingerprint);
+
+    /**
+     * 가수명 또는 제목이 정확히 일치하는 유사 매칭 후보 조회
+     * 후보 수 제한에 걸려도 같은 후보가 잘리도록 제목 일치를 먼저, 그다음 id 순으로 정렬한다.
+     */
+    @Query("SELECT c FROM SongCatalog c " +
+            "WHERE (c.artistKey = :artistKey OR c.titleKey = :titleKey) AND c.deletedAt IS NULL " +
+            "ORDER BY CASE WHEN c.titleKey = :titleKey THEN 0 ELSE 1 END, c.id")
+    List<SongCatalog> findCandidates(@Param("artistKey") String artistKey,
+                                     @Param("titleKey") String titleKey,
+                                     Pageable pageable);
+
+    /**
+     * 카탈로그 저장 (같은 정규화 키가 있으면 MV 정보 갱신)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO song_catalog " +
+            "(fingerprint, artist_key, title_key, video_id, video_title, thumbnail_url, created_at) " +
+            "VALUES (:fingerprint, :artistKey, :titleKey, :videoId, :videoTitle, :thumbnailUrl, NOW()) " +
+            "ON DUPLICATE KEY UPDATE video_id = VALUES(video_id), video_title = VALUES(video_title), " +
+            "thumbnail_url = VALUES(thumbnail_url), deleted_at = NULL",
+            nativeQuery = true)
+    void upsert(@Param("fingerprint") String fingerprint,
+                @Param("artistKey") String artistKey,
+                @Param("titleKey") String titleKey,
+                @Param("videoId") String videoId,
+                @Param("videoTitle") String videoTitle,
+                @Param("thumbnailUrl") String thumbnailUrl);
+}
@@ -22,6 +22,14 @@ public enum MusicSortType {
             };
         }
 
+        /**
+         * 커서 페이지용 정렬 (정렬 키가 같을 때 id로 순서 고정)
+         */
+        public Sort toKeysetSort() {
+            Sort.Direction direction = this == LATEST ? Sort.Direction.DESC : Sort.Direction.ASC;
+            return toSort().and(Sort.by(direction, "id"));
+        }
+
         /**
          * Pageable 생성 (page, size + sort)
          */
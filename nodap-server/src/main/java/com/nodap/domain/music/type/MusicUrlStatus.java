@@ -0,0 +1,12 @@
+package com.nodap.domain.music.type;
+
+/**
+ * 수록곡 MV URL 확인 상태
+ * 노래 등록 시 PENDING으로 저장되고, 백그라운드에서 YouTube 검색 후 갱신된다.
+ */
+public enum MusicUrlStatus {
+    PENDING,    // 검색 대기 중 (기본 URL 노출)
+    RESOLVED,   // MV URL 확인 완료
+    NOT_FOUND,  // 검색 결과 없음 (기본 URL 유지)
+    FAILED      // 재시도 초과 (기본 URL 유지)
+}
@@ -38,6 +38,12 @@ public class User extends BaseTimeEntity {
     @Column(name = "role", nullable = false)
     private Role role;
 
+    /**
+     * 삭제되지 않은 앨범 수 (UserRepository의 원자적 UPDATE로만 변경)
+     */
+    @Column(name = "album_count", nullable = false, updatable = false)
+    private Integer albumCount;
+
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private UserOauthAccount oauthAccount;
 
@@ -48,6 +54,7 @@ public class User extends BaseTimeEntity {
         this.email = email;
         this.profileImage = profileImage;
         this.role = role != null ? role : Role.USER;
+        this.albumCount = 0;
     }
 
     /**
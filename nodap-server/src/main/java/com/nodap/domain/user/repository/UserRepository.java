@@ -2,8 +2,14 @@ package com.nodap.domain.user.repository;
 
 import com.nodap.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,6 +42,34 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 이메일 중복 확인
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 사용자의 앨범 수 조회 (앨범 목록 전체 개수용)
+     */
+    @Query("SELECT u.albumCount FROM User u WHERE u.id = :userId")
+    Optional<Integer> findAlbumCountById(@Param("userId") Long userId);
+
+    /**
+     * 앨범 수 증가
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.albumCount = u.albumCount + 1 WHERE u.id = :userId")
+    int incrementAlbumCount(@Param("userId") Long userId);
+
+    /**
+     * 앨범 수 감소 (0 아래로 내려가지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.albumCount = u.albumCount - 1 WHERE u.id = :userId AND u.albumCount > 0")
+    int decrementAlbumCount(@Param("userId") Long userId);
+
+    /**
+     * 주어진 URL 중 프로필 이미지로 사용 중인 것 조회 (고아 이미지 정리용)
+     */
+    @Query("SELECT u.profileImage FROM User u WHERE u.profileImage IN :urls")
+    List<String> findProfileImagesIn(@Param("urls") Collection<String> urls);
 }
 
 
@@ -0,0 +1,66 @@
+package com.nodap.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업 설정
+ * 요청 스레드에서 분리해야 하는 외부 API 호출 등을 전용 스레드 풀에서 처리
+ */
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * MV URL 확인 작업용 스레드 풀
+     * 큐가 가득 차면 작업을 버리고, PENDING 상태로 남은 수록곡은 주기적인 재시도에서 다시 처리된다.
+     */
+    @Bean(name = "musicUrlResolverExecutor")
+    public ThreadPoolTaskExecutor musicUrlResolverExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("mv-resolver-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * MV 검색 전 캐시(Redis)/노래 카탈로그(DB) 조회용 스레드 풀
+     * searchAsync 호출 스레드가 블로킹 조회를 기다리지 않도록 분리한다. 큐가 가득 차면 해당 검색은 실패로 끝나고 재시도에서 다시 처리된다.
+     */
+    @Bean(name = "musicVideoLookupExecutor")
+    public ThreadPoolTaskExecutor musicVideoLookupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("mv-lookup-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 변형본(썸네일) 생성용 스레드 풀
+     * 디코딩/인코딩이 CPU와 메모리를 많이 쓰므로 작게 유지하고, 큐가 가득 차면 작업을 버린다. (원본 이미지로 대체 노출)
+     */
+    @Bean(name = "imageVariantExecutor")
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
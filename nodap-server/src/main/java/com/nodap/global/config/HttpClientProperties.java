@@ -0,0 +1,87 @@
+package com.nodap.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 연동용 HTTP 클라이언트 설정 프로퍼티
+ * 연동 대상별로 커넥션 풀과 타임아웃을 분리해서 관리
+ */
+@ConfigurationProperties(prefix = "http-client")
+public record HttpClientProperties(
+        /**
+         * 카카오 API (OAuth, 사용자 정보, 연동 해제)
+         */
+        Integration kakao,
+
+        /**
+         * YouTube Data API
+         */
+        Integration youtube
+) {
+    public HttpClientProperties {
+        if (kakao == null) {
+            kakao = Integration.defaults();
+        }
+        if (youtube == null) {
+            youtube = Integration.defaults();
+        }
+    }
+
+    /**
+     * 연동 대상별 설정
+     *
+     * @param maxConnections         최대 커넥션 수
+     * @param pendingAcquireMaxCount 커넥션 대기열 최대 길이
+     * @param pendingAcquireTimeout  커넥션 획득 대기 시간
+     * @param maxIdleTime            유휴 커넥션 유지 시간 (keep-alive)
+     * @param maxLifeTime            커넥션 최대 수명
+     * @param evictInBackground      유휴/만료 커넥션 정리 주기
+     * @param connectTimeout         연결 타임아웃
+     * @param responseTimeout        응답 타임아웃
+     * @param http2                  HTTP/2 사용 여부 (TLS ALPN 협상, 미지원 시 HTTP/1.1)
+     */
+    public record Integration(
+            int maxConnections,
+            int pendingAcquireMaxCount,
+            Duration pendingAcquireTimeout,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration evictInBackground,
+            Duration connectTimeout,
+            Duration responseTimeout,
+            boolean http2
+    ) {
+        public Integration {
+            if (maxConnections <= 0) {
+                maxConnections = 50;
+            }
+            if (pendingAcquireMaxCount <= 0) {
+                pendingAcquireMaxCount = 500;
+            }
+            if (pendingAcquireTimeout == null) {
+                pendingAcquireTimeout = Duration.ofSeconds(5);
+            }
+            if (maxIdleTime == null) {
+                maxIdleTime = Duration.ofSeconds(30);
+            }
+            if (maxLifeTime == null) {
+                maxLifeTime = Duration.ofMinutes(5);
+            }
+            if (evictInBackground == null) {
+                evictInBackground = Duration.ofSeconds(30);
+            }
+            if (connectTimeout == null) {
+                connectTimeout = Duration.ofSeconds(2);
+            }
+            if (responseTimeout == null) {
+                responseTimeout = Duration.ofSeconds(5);
+            }
+        }
+
+        static Integration defaults() {
+            return new Integration(0, 0, null, null, null, null, null, null, false);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.nodap.global.config;
 
 import com.nodap.infrastructure.auth.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -47,6 +48,9 @@ public class SecurityConfig {
                 
                 // 인증/인가 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Swagger UI
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/v3/api-docs.yaml").permitAll()
@@ -56,18 +60,28 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/dev/**").permitAll()  // 개발용 API (local 프로필에서만 활성화)
                         .requestMatchers("/api/v1/health").permitAll()
                         .requestMatchers("/error").permitAll()
+                        .requestMatchers("/actuator/**").permitAll()  // management 포트(내부망)로만 노출
 
                         // 앨범 상세 조회 (노래 목록 조회 페이지에서도 사용)
                         .requestMatchers(HttpMethod.GET, "/api/v1/albums/{albumUuid}").permitAll()
 
+                        // 앨범 페이지 조회 (앨범 상세 + 첫 페이지 노래 목록)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/albums/{albumUuid}/page").permitAll()
+
                         // 앨범 공개 조회 (비로그인 사용자도 접근 가능)
-                        .requestMatchers(HttpMethod.GET, "/api/v1/albums/{albumUuid}/musics").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/albums/{albumUuid}/musics", "/api/v1/albums/{albumUuid}/musics/cursor").permitAll()
                         
                         // 수록곡 추가 (비로그인 사용자도 가능 - 앨범 공유 링크로 접근)
-                        .requestMatchers(HttpMethod.POST, "/api/v1/albums/{albumUuid}/musics").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/albums/{albumUuid}/musics", "/api/v1/albums/{albumUuid}/musics/bulk").permitAll()
+
+                        // 노래 이미지 업로드/Presigned 발급/확인 (비로그인 사용자도 노래 등록 가능)
+                        .requestMatchers(HttpMethod.POST, "/api/v1/images/songs", "/api/v1/images/songs/**").permitAll()
 
                         // 수록곡 상세 정보 조회 (비로그인 사용자도 가능)
                         .requestMatchers(HttpMethod.GET, "/api/v1/musics/{musicUuid}").permitAll()
+
+                        // 로컬 파일 저장소 이미지 제공 (storage.type=local에서만 활성화)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/files/**").permitAll()
                         
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
@@ -1,15 +1,67 @@
 package com.nodap.global.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+/**
+ * 외부 연동용 WebClient 설정
+ * 연동 대상마다 전용 커넥션 풀을 두고 keep-alive로 재사용하여 요청마다 TLS 핸드셰이크가 일어나지 않도록 한다.
+ * 커넥션 풀/요청 메트릭은 Micrometer로 노출된다. (reactor.netty.connection.provider.*, reactor.netty.http.client.*)
+ */
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
+    private final HttpClientProperties httpClientProperties;
+
+    @Bean
+    public WebClient kakaoWebClient(WebClient.Builder builder) {
+        return build(builder, "kakao", httpClientProperties.kakao());
+    }
+
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
-        // 여기서 타임아웃이나 공통 설정을 추가할 수 있습니다.
-        return builder.build();
+    public WebClient youtubeWebClient(WebClient.Builder builder) {
+        return build(builder, "youtube", httpClientProperties.youtube());
+    }
+
+    private WebClient build(WebClient.Builder builder, String name, HttpClientProperties.Integration properties) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .maxLifeTime(properties.maxLifeTime())
+                .evictInBackground(properties.evictInBackground())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(properties.responseTimeout())
+                .metrics(true, WebClientConfig::stripQuery);
+
+        if (properties.http2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * 메트릭 태그 카디널리티를 줄이기 위해 쿼리 스트링 제거
+     */
+    private static String stripQuery(String uri) {
+        int queryIndex = uri.indexOf('?');
+        return queryIndex < 0 ? uri : uri.substring(0, queryIndex);
     }
-}
\ No newline at end of file
+}
@@ -16,6 +16,7 @@ public enum ErrorCode {
     // ============================================
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "ERR_001", "잘못된 요청입니다."),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "ERR_002", "잘못된 타입입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "ERR_003", "잘못된 커서입니다."),
     
     // ============================================
     // 인증 에러 (401)
@@ -38,6 +39,7 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_001", "사용자를 찾을 수 없습니다."),
     ALBUM_NOT_FOUND(HttpStatus.NOT_FOUND, "ALBUM_001", "앨범을 찾을 수 없습니다."),
     MUSIC_NOT_FOUND(HttpStatus.NOT_FOUND, "MUSIC_001", "수록곡을 찾을 수 없습니다."),
+    FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "FILE_001", "파일을 찾을 수 없습니다."),
 
     // ============================================
     // 비즈니스 에러 (409)
@@ -45,10 +47,20 @@ public enum ErrorCode {
     NICKNAME_DUPLICATED(HttpStatus.CONFLICT, "USER_002", "이미 사용 중인 닉네임입니다."),
     MUSIC_LIMIT_EXCEEDED(HttpStatus.CONFLICT, "ALBUM_002", "수록곡 제한을 초과했습니다."),
 
+    // ============================================
+    // 이미지 에러 (400, 413, 415, 501)
+    // ============================================
+    INVALID_IMAGE_URL(HttpStatus.BAD_REQUEST, "IMAGE_001", "사용할 수 없는 이미지 URL입니다."),
+    IMAGE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "IMAGE_002", "이미지 크기는 10MB를 초과할 수 없습니다."),
+    UNSUPPORTED_IMAGE_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "IMAGE_003", "지원하지 않는 이미지 형식입니다. (jpg, jpeg, png, gif, webp만 가능)"),
+    EMPTY_IMAGE(HttpStatus.BAD_REQUEST, "IMAGE_004", "파일이 비어있습니다."),
+    PRESIGNED_UPLOAD_UNSUPPORTED(HttpStatus.NOT_IMPLEMENTED, "IMAGE_005", "현재 저장소에서는 Presigned 업로드를 지원하지 않습니다. 이미지 업로드 API를 사용하세요."),
+
     // ============================================
     // 외부 API 에러 (502)
     // ============================================
     KAKAO_API_ERROR(HttpStatus.BAD_GATEWAY, "KAKAO_ERR", "카카오 서버 오류입니다."),
+    S3_UPLOAD_FAILED(HttpStatus.BAD_GATEWAY, "S3_ERR", "이미지 업로드에 실패했습니다."),
     
     // ============================================
     // 서버 에러 (500)
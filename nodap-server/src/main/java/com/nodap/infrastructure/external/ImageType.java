@@ -0,0 +1,79 @@
+package com.nodap.infrastructure.external;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 업로드 허용 이미지 형식
+ * 클라이언트가 보낸 Content-Type이나 확장자 대신 파일 앞부분(매직 바이트)으로 실제 형식을 판별한다.
+ */
+public enum ImageType {
+
+    JPEG("image/jpeg", "jpg"),
+    PNG("image/png", "png"),
+    GIF("image/gif", "gif"),
+    WEBP("image/webp", "webp");
+
+    /**
+     * 형식 판별에 필요한 최소 바이트 수
+     */
+    public static final int SNIFF_LENGTH = 12;
+
+    private final String contentType;
+    private final String extension;
+
+    ImageType(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Content-Type 문자열로 형식 조회 (파라미터 무시)
+     */
+    public static Optional<ImageType> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        String mediaType = contentType.split(";", 2)[0].trim();
+        return Arrays.stream(values())
+                .filter(type -> type.contentType.equalsIgnoreCase(mediaType))
+                .findFirst();
+    }
+
+    /**
+     * 파일 앞부분 바이트로 형식 판별
+     *
+     * @param header 파일 앞부분
+     * @param length header 중 유효한 길이
+     */
+    public static Optional<ImageType> detect(byte[] header, int length) {
+        if (length >= 3
+                && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return Optional.of(JPEG);
+        }
+        if (length >= 8
+                && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G'
+                && header[4] == 0x0D && header[5] == 0x0A && header[6] == 0x1A && header[7] == 0x0A) {
+            return Optional.of(PNG);
+        }
+        if (length >= 6
+                && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8'
+                && (header[4] == '7' || header[4] == '9') && header[5] == 'a') {
+            return Optional.of(GIF);
+        }
+        if (length >= 12
+                && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+}
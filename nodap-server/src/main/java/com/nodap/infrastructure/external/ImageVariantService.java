@@ -0,0 +1,169 @@
+package com.nodap.infrastructure.external;
+
+import com.nodap.infrastructure.external.storage.ObjectStoragePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * 이미지 변형본(썸네일) 생성 서비스
+ * 원본을 저장소에서 읽어 축소한 JPEG를 변형본 키에 저장한다.
+ * 다시 인코딩하므로 EXIF 등 메타데이터는 남지 않는다.
+ * 원본 키가 내용 주소이므로 변형본도 내용이 바뀌지 않아 immutable로 캐시한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    private static final int THUMBNAIL_SIZE = 320;            // 긴 변 기준 (px)
+    private static final float THUMBNAIL_QUALITY = 0.8f;
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L; // 디코딩 폭탄 방지
+    private static final String VARIANT_DIRECTORY = "variants";
+
+    static {
+        // 디코딩 중 임시 파일 대신 메모리 버퍼 사용 (원본 최대 10MB)
+        ImageIO.setUseCache(false);
+    }
+
+    private final ObjectStoragePort objectStorage;
+    private final S3Service s3Service;
+
+    /**
+     * 썸네일 생성 후 URL 반환
+     * 변형본 키는 원본 키로 결정되므로, 이미 만들어진 썸네일(기본 이미지 등)은 다시 만들지 않는다.
+     *
+     * @param imageUrl 원본 이미지 URL
+     * @return 썸네일 URL (우리 버킷 이미지가 아니거나 디코딩할 수 없는 형식이면 empty)
+     */
+    public Optional<String> createThumbnail(String imageUrl) throws IOException {
+        Optional<String> source = s3Service.objectKey(imageUrl);
+        if (source.isEmpty()) {
+            return Optional.empty();
+        }
+        String sourceKey = source.get();
+
+        String variantKey = variantKey(sourceKey, "w" + THUMBNAIL_SIZE, "jpg");
+        String variantUrl = s3Service.toUrl(variantKey);
+        if (s3Service.objectExists(variantKey)) {
+            return Optional.of(variantUrl);
+        }
+
+        BufferedImage thumbnail;
+        try (InputStream sourceInput = objectStorage.read(sourceKey)) {
+            thumbnail = readScaled(sourceInput, THUMBNAIL_SIZE);
+        }
+        if (thumbnail == null) {
+            log.info("[Image] 썸네일 생성 불가 형식: key={}", sourceKey);
+            return Optional.empty();
+        }
+
+        byte[] encoded = encodeJpeg(thumbnail, THUMBNAIL_QUALITY);
+        objectStorage.put(variantKey, new ByteArrayInputStream(encoded), encoded.length,
+                ImageType.JPEG.getContentType(), S3Service.IMMUTABLE_CACHE_CONTROL);
+
+        log.info("[Image] 썸네일 생성 완료: key={}, bytes={}", variantKey, encoded.length);
+        return Optional.of(variantUrl);
+    }
+
+    /**
+     * 변형본 키 생성
+     * 예: songs/uuid.png -> songs/variants/uuid_w320.jpg
+     */
+    private String variantKey(String sourceKey, String variant, String extension) {
+        int slash = sourceKey.lastIndexOf('/');
+        String directory = slash < 0 ? "" : sourceKey.substring(0, slash + 1);
+        String fileName = sourceKey.substring(slash + 1);
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot < 0 ? fileName : fileName.substring(0, dot);
+        return directory + VARIANT_DIRECTORY + "/" + baseName + "_" + variant + "." + extension;
+    }
+
+    /**
+     * 긴 변이 targetSize가 되도록 축소해서 읽기
+     * 큰 원본은 디코딩 단계에서 서브샘플링하여 메모리 사용을 줄인다. (GIF는 첫 프레임)
+     */
+    private BufferedImage readScaled(InputStream source, int targetSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null; // WebP 등 JDK 기본 ImageIO가 읽지 못하는 형식
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    log.warn("[Image] 원본 해상도 초과로 썸네일 생략: {}x{}", width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (targetSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return resize(reader.read(0, param), targetSize);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage image, int targetSize) {
+        double scale = Math.min(1.0, (double) targetSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        // JPEG는 알파 채널이 없으므로 흰 배경 위에 그린다.
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
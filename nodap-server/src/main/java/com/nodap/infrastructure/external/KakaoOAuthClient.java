@@ -2,8 +2,8 @@ package com.nodap.infrastructure.external;
 
 import com.nodap.global.error.BusinessException;
 import com.nodap.global.error.ErrorCode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
@@ -19,11 +19,16 @@ import java.util.Map;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KakaoOAuthClient {
 
     private final KakaoOAuthProperties kakaoProperties;
-    private final WebClient webClient = WebClient.builder().build();
+    private final WebClient webClient;
+
+    public KakaoOAuthClient(KakaoOAuthProperties kakaoProperties,
+                            @Qualifier("kakaoWebClient") WebClient webClient) {
+        this.kakaoProperties = kakaoProperties;
+        this.webClient = webClient;
+    }
 
     /**
      * 인가 코드로 Access Token 발급
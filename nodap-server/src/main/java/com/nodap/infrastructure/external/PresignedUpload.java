@@ -0,0 +1,28 @@
+package com.nodap.infrastructure.external;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Presigned 업로드 발급 결과
+ *
+ * @param uploadRequired 업로드 필요 여부 (같은 이미지가 이미 있으면 false)
+ * @param uploadUrl 클라이언트가 PUT 요청을 보낼 URL
+ * @param imageUrl  업로드 완료 후 참조할 이미지 URL
+ * @param headers   PUT 요청에 그대로 포함해야 하는 서명된 헤더
+ * @param expiresAt uploadUrl 만료 시각
+ */
+public record PresignedUpload(
+        boolean uploadRequired,
+        String uploadUrl,
+        String imageUrl,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+    /**
+     * 같은 내용의 이미지가 이미 있어 업로드가 필요 없는 경우
+     */
+    public static PresignedUpload alreadyUploaded(String imageUrl) {
+        return new PresignedUpload(false, null, imageUrl, Map.of(), null);
+    }
+}
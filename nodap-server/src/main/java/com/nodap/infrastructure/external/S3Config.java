@@ -1,19 +1,30 @@
 package com.nodap.infrastructure.external;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.time.Duration;
 
 /**
  * AWS S3 설정 클래스
+ * storage.type=local이면 S3 클라이언트를 만들지 않는다.
  */
 @Slf4j
 @Configuration
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     private final S3Properties s3Properties;
@@ -27,19 +38,72 @@ public class S3Config {
      */
     @Bean
     public S3Client s3Client() {
-        String accessKey = s3Properties.accessKey();
-        String secretKey = s3Properties.secretKey();
         String bucket = s3Properties.bucket();
 
         if (bucket == null || bucket.isBlank()) {
             throw new IllegalStateException(
                 "S3 버킷 이름이 설정되지 않았습니다. " +
-                "환경 변수 AWS_S3_BUCKET 또는 application-local.yml의 aws.s3.bucket을 확인하세요."
+                "환경 변수 AWS_S3_BUCKET 또는 application-local.yml의 aws.s3.bucket을 확인하세요. " +
+                "(AWS 없이 실행하려면 storage.type=local)"
             );
         }
 
         var builder = S3Client.builder()
-                .region(Region.of(s3Properties.region()));
+                .region(Region.of(s3Properties.region()))
+                .credentialsProvider(credentialsProvider());
+
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(s3Properties.endpoint()))
+                    .serviceConfiguration(pathStyleConfiguration());
+            log.info("[S3 Config] Endpoint override: {}", s3Properties.endpoint());
+        }
+
+        log.info("[S3 Config] Bucket: {}", bucket);
+
+        return builder.build();
+    }
+
+    /**
+     * S3 비동기 클라이언트 빈 생성
+     * 업로드 대기 동안 요청 스레드를 점유하지 않도록 Netty 기반 논블로킹 HTTP 클라이언트를 사용한다.
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient() {
+        var builder = S3AsyncClient.builder()
+                .region(Region.of(s3Properties.region()))
+                .credentialsProvider(credentialsProvider())
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(s3Properties.asyncMaxConcurrency())
+                        .connectionAcquisitionTimeout(Duration.ofSeconds(10)));
+
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(s3Properties.endpoint()))
+                    .serviceConfiguration(pathStyleConfiguration());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Presigned URL 발급용 빈 생성
+     */
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        var builder = S3Presigner.builder()
+                .region(Region.of(s3Properties.region()))
+                .credentialsProvider(credentialsProvider());
+
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(s3Properties.endpoint()))
+                    .serviceConfiguration(pathStyleConfiguration());
+        }
+
+        return builder.build();
+    }
+
+    private AwsCredentialsProvider credentialsProvider() {
+        String accessKey = s3Properties.accessKey();
+        String secretKey = s3Properties.secretKey();
 
         if (accessKey != null && !accessKey.isBlank() && secretKey != null && !secretKey.isBlank()) {
             // Use static credentials from properties/env
@@ -48,17 +112,23 @@ public class S3Config {
                 secretKey = secretKey.trim();
             }
             AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey.trim(), secretKey);
-            builder.credentialsProvider(StaticCredentialsProvider.create(awsCredentials));
             log.info("[S3 Config] Using static AWS credentials. Access Key: {} (len={})",
                     accessKey.substring(0, Math.min(8, accessKey.length())) + "***", accessKey.length());
-        } else {
-            // Fallback to DefaultCredentialsProvider (e.g., EC2 Instance Profile)
-            builder.credentialsProvider(DefaultCredentialsProvider.create());
-            log.info("[S3 Config] Using DefaultCredentialsProvider (instance role or environment credentials)");
+            return StaticCredentialsProvider.create(awsCredentials);
         }
 
-        log.info("[S3 Config] Bucket: {}", bucket);
+        // Fallback to DefaultCredentialsProvider (e.g., EC2 Instance Profile)
+        log.info("[S3 Config] Using DefaultCredentialsProvider (instance role or environment credentials)");
+        return DefaultCredentialsProvider.create();
+    }
 
-        return builder.build();
+    private boolean hasEndpointOverride() {
+        return s3Properties.endpoint() != null && !s3Properties.endpoint().isBlank();
+    }
+
+    private S3Configuration pathStyleConfiguration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(true)
+                .build();
     }
 }
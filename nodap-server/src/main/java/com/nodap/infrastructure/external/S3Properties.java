@@ -2,6 +2,8 @@ package com.nodap.infrastructure.external;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * AWS S3 설정 프로퍼티
  * 생성자 바인딩 사용 (Setter 금지)
@@ -31,19 +33,42 @@ public record S3Properties(
         /**
          * S3 Base URL (CDN 또는 직접 접근 URL)
          */
-        String baseUrl
+        String baseUrl,
+
+        /**
+         * S3 호환 엔드포인트 (LocalStack, MinIO 등 로컬 대체 시에만 설정, path-style 접근)
+         */
+        String endpoint,
+
+        /**
+         * Presigned 업로드 URL 유효 시간
+         */
+        Duration presignExpiry,
+
+        /**
+         * S3AsyncClient 최대 동시 요청 수 (커넥션 풀 크기)
+         */
+        int asyncMaxConcurrency,
+
+        /**
+         * 업로드 하나에서 동시에 전송하는 멀티파트 파트 수
+         */
+        int partUploadConcurrency
 ) {
     public S3Properties {
         if (region == null || region.isBlank()) {
             region = "ap-northeast-2";
         }
         
-        // 버킷 검증 (버킷 정보는 반드시 필요)
-        if (bucket == null || bucket.isBlank()) {
-            throw new IllegalArgumentException(
-                "S3 버킷 이름이 설정되지 않았습니다. " +
-                "환경 변수 AWS_S3_BUCKET 또는 application-local.yml의 aws.s3.bucket을 설정하세요."
-            );
+        // 버킷 검증은 S3Config에서 수행 (storage.type=local이면 버킷 없이 기동)
+        if (presignExpiry == null) {
+            presignExpiry = Duration.ofMinutes(10);
+        }
+        if (asyncMaxConcurrency <= 0) {
+            asyncMaxConcurrency = 64;
+        }
+        if (partUploadConcurrency <= 0) {
+            partUploadConcurrency = 4;
         }
         // Note: accessKey/secretKey may be omitted when using IAM Role (Instance Profile) or
         // DefaultCredentialsProvider. Do not enforce accessKey/secretKey here.
@@ -1,27 +1,64 @@
 package com.nodap.infrastructure.external;
 
+import com.nodap.application.image.ImageClaimedEvent;
+import com.nodap.global.error.BusinessException;
+import com.nodap.global.error.ErrorCode;
+import com.nodap.infrastructure.external.storage.ObjectHead;
+import com.nodap.infrastructure.external.storage.ObjectStorageException;
+import com.nodap.infrastructure.external.storage.ObjectStoragePort;
+import com.nodap.infrastructure.external.storage.PresignedPut;
+import com.nodap.infrastructure.external.storage.StoredObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
- * AWS S3 파일 업로드 서비스
+ * 이미지 파일 업로드 서비스
+ * 형식/크기 검증과 내용 주소 키 결정을 맡고, 실제 저장은 ObjectStoragePort(S3 또는 로컬 파일 시스템)에 위임한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
-    private final S3Client s3Client;
+    private static final long MAX_IMAGE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int PART_SIZE = 5 * 1024 * 1024; // 이보다 작으면 해시를 먼저 구해 최종 키로 바로 저장
+
+    /**
+     * 해시 계산 전 임시 키 폴더 (고아 이미지 정리 대상)
+     */
+    public static final String STAGING_FOLDER = "tmp/uploads";
+
+    /**
+     * 내용 주소 키는 내용이 바뀌지 않으므로 1년 동안 재검증 없이 캐시
+     */
+    public static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ObjectStoragePort objectStorage;
     private final S3Properties s3Properties;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 이미지 파일을 S3에 업로드하고 URL을 반환
@@ -65,50 +102,278 @@ public class S3Service {
             throw new IllegalArgumentException("파일 크기는 10MB를 초과할 수 없습니다.");
         }
 
-        // 고유한 파일명 생성
-        String fileName = generateFileName(folderPath, extension);
+        // 내용 해시로 파일명 생성 (같은 이미지는 한 번만 저장)
+        String fileName = contentAddressedKey(folderPath, sha256(file.getInputStream()), extension);
 
-        try {
-            // ACL 설정 제거: 최신 AWS S3 버킷은 기본적으로 ACL을 비활성화합니다.
-            // 대신 버킷 정책을 사용하여 퍼블릭 읽기 권한을 부여해야 합니다.
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(s3Properties.bucket())
-                    .key(fileName)
-                    .contentType(file.getContentType())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
-                    file.getInputStream(), file.getSize()));
-
-            // 업로드된 파일의 URL 생성
-            String fileUrl = s3Properties.baseUrl() + "/" + fileName;
-            log.info("[S3] 이미지 업로드 성공: fileName={}, url={}", fileName, fileUrl);
-
-            return fileUrl;
-
-        } catch (S3Exception e) {
-            log.error("[S3] 이미지 업로드 실패: fileName={}, error={}", fileName, e.getMessage(), e);
-            
-            // AWS 자격 증명 관련 에러인 경우 더 명확한 메시지 제공
-            String errorMessage = e.getMessage();
-            if (errorMessage != null) {
-                if (errorMessage.contains("Access Key Id") || errorMessage.contains("does not exist")) {
-                    throw new RuntimeException(
-                        "AWS 자격 증명이 올바르지 않습니다. " +
-                        "application-local.yml의 aws.s3.access-key와 aws.s3.secret-key를 확인하거나 " +
-                        "환경 변수 AWS_ACCESS_KEY와 AWS_SECRET_KEY를 확인하세요. " +
-                        "원본 에러: " + errorMessage, e
-                    );
-                } else if (errorMessage.contains("Access Denied") || errorMessage.contains("403")) {
-                    throw new RuntimeException(
-                        "AWS 자격 증명에 S3 버킷 접근 권한이 없습니다. " +
-                        "IAM 사용자의 권한을 확인하세요. 원본 에러: " + errorMessage, e
-                    );
-                }
+        if (objectStorage.exists(fileName)) {
+            claim(fileName);
+        } else {
+            objectStorage.put(fileName, file.getInputStream(), file.getSize(), file.getContentType(),
+                    IMMUTABLE_CACHE_CONTROL);
+        }
+
+        // 업로드된 파일의 URL 생성
+        String fileUrl = toUrl(fileName);
+        log.info("[S3] 이미지 업로드 성공: fileName={}, url={}", fileName, fileUrl);
+
+        return fileUrl;
+    }
+
+    /**
+     * 요청 본문 스트림을 그대로 S3에 업로드하고 URL을 반환
+     * Tomcat multipart 임시 파일을 거치지 않으며, 크기와 형식은 읽는 도중에 검증한다.
+     * 읽으면서 SHA-256을 계산해 내용 주소 키({folder}/{sha256}.{ext})에 저장하고, 이미 있으면 다시 올리지 않는다.
+     *
+     * @param inputStream 요청 본문
+     * @param contentLength Content-Length (알 수 없으면 -1)
+     * @param folder S3 폴더 타입
+     * @return 업로드된 파일의 URL (S3 업로드가 끝나면 완료)
+     * @throws IOException 요청 본문 읽기 실패 시
+     */
+    public CompletableFuture<String> uploadImageAsync(InputStream inputStream, long contentLength, S3Folder folder)
+            throws IOException {
+        if (contentLength == 0) {
+            throw new BusinessException(ErrorCode.EMPTY_IMAGE);
+        }
+        if (contentLength > MAX_IMAGE_SIZE) {
+            throw new BusinessException(ErrorCode.IMAGE_TOO_LARGE);
+        }
+
+        InputStream limited = new SizeLimitedInputStream(inputStream, MAX_IMAGE_SIZE);
+
+        // 앞부분만 읽어 실제 형식 판별 후 다시 이어 붙인다.
+        byte[] header = limited.readNBytes(ImageType.SNIFF_LENGTH);
+        if (header.length == 0) {
+            throw new BusinessException(ErrorCode.EMPTY_IMAGE);
+        }
+        ImageType imageType = ImageType.detect(header, header.length)
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNSUPPORTED_IMAGE_TYPE));
+        InputStream body = new SequenceInputStream(new ByteArrayInputStream(header), limited);
+
+        return storeContentAddressed(body, folder, imageType)
+                .handle((fileName, error) -> {
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        if (cause instanceof BusinessException e) {
+                            throw e;
+                        }
+                        log.error("[Error-S3_ERR] 스트리밍 업로드 실패: folder={}, error={}", folder.getPath(), cause.getMessage(), cause);
+                        throw new BusinessException(ErrorCode.S3_UPLOAD_FAILED);
+                    }
+
+                    String fileUrl = toUrl(fileName);
+                    log.info("[S3] 이미지 스트리밍 업로드 성공: fileName={}, url={}", fileName, fileUrl);
+                    return fileUrl;
+                });
+    }
+
+    /**
+     * 클라이언트가 S3로 직접 업로드할 Presigned PUT URL 발급
+     * Content-Type과 Content-Length가 서명에 포함되므로 신고한 형식/크기와 다른 업로드는 S3가 거부한다.
+     * SHA-256을 함께 보내면 내용 주소 키를 발급하고 S3가 체크섬을 검증하며, 이미 같은 이미지가 있으면 업로드를 생략하게 한다.
+     *
+     * @param folder S3 폴더 타입
+     * @param contentType 업로드할 이미지의 Content-Type
+     * @param contentLength 업로드할 이미지 크기 (bytes)
+     * @param sha256Hex 업로드할 이미지의 SHA-256 (hex, 선택)
+     * @return 업로드 URL과 업로드 후 참조할 이미지 URL
+     */
+    public PresignedUpload presignImageUpload(S3Folder folder, String contentType, long contentLength,
+                                              String sha256Hex) {
+        ImageType imageType = ImageType.fromContentType(contentType)
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNSUPPORTED_IMAGE_TYPE));
+        if (contentLength <= 0) {
+            throw new BusinessException(ErrorCode.EMPTY_IMAGE);
+        }
+        if (contentLength > MAX_IMAGE_SIZE) {
+            throw new BusinessException(ErrorCode.IMAGE_TOO_LARGE);
+        }
+
+        String fileName;
+        byte[] sha256 = null;
+        if (sha256Hex != null && !sha256Hex.isBlank()) {
+            sha256 = HexFormat.of().parseHex(sha256Hex);
+            fileName = contentAddressedKey(folder.getPath(), sha256, imageType.getExtension());
+            if (objectStorage.exists(fileName)) {
+                log.info("[S3] 이미 업로드된 이미지: fileName={}", fileName);
+                claim(fileName);
+                return PresignedUpload.alreadyUploaded(toUrl(fileName));
             }
-            
-            throw new RuntimeException("S3 업로드 실패: " + errorMessage, e);
+        } else {
+            fileName = generateFileName(folder.getPath(), imageType.getExtension());
+        }
+
+        PresignedPut presigned = objectStorage.presignPut(
+                        fileName, imageType.getContentType(), contentLength, sha256, IMMUTABLE_CACHE_CONTROL)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRESIGNED_UPLOAD_UNSUPPORTED));
+
+        log.info("[S3] Presigned 업로드 URL 발급: fileName={}, size={}", fileName, contentLength);
+        return new PresignedUpload(
+                true,
+                presigned.url(),
+                toUrl(fileName),
+                presigned.headers(),
+                presigned.expiresAt());
+    }
+
+    /**
+     * 클라이언트가 전달한 이미지 URL 확인
+     * 우리 버킷의 지정 폴더에 실제로 업로드된 이미지인지 앞부분만 읽어 검증한다.
+     * 업로드는 되었지만 이미지가 아니거나 크기를 넘는 객체는 삭제한다.
+     *
+     * @param fileUrl 확인할 이미지 URL
+     * @param folder S3 폴더 타입
+     * @return 확인된 이미지 URL
+     */
+    public String confirmImage(String fileUrl, S3Folder folder) {
+        if (!isManagedImageUrl(fileUrl, folder)) {
+            throw new BusinessException(ErrorCode.INVALID_IMAGE_URL);
+        }
+        String fileKey = extractFileKeyFromUrl(fileUrl);
+
+        ObjectHead head;
+        try {
+            head = objectStorage.readHead(fileKey, ImageType.SNIFF_LENGTH).orElseThrow(() -> {
+                log.warn("[S3] 확인할 이미지 없음: fileKey={}", fileKey);
+                return new BusinessException(ErrorCode.INVALID_IMAGE_URL);
+            });
+        } catch (ObjectStorageException e) {
+            log.error("[Error-S3_ERR] 이미지 확인 실패: fileKey={}, error={}", fileKey, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAILED);
+        }
+
+        byte[] header = head.header();
+        if (head.size() > MAX_IMAGE_SIZE) {
+            deleteFile(fileUrl);
+            throw new BusinessException(ErrorCode.IMAGE_TOO_LARGE);
         }
+        if (ImageType.detect(header, header.length).isEmpty()) {
+            deleteFile(fileUrl);
+            throw new BusinessException(ErrorCode.UNSUPPORTED_IMAGE_TYPE);
+        }
+
+        // 확인한 객체는 오래전에 올라간 중복 이미지일 수 있다.
+        claim(fileKey);
+        return fileUrl;
+    }
+
+    /**
+     * 객체 키의 URL
+     */
+    public String toUrl(String key) {
+        return objectStorage.baseUrl() + "/" + key;
+    }
+
+    /**
+     * 접두사 아래 객체를 페이지(최대 1,000개) 단위로 조회
+     */
+    public void listObjects(String prefix, Consumer<List<StoredObject>> pageConsumer) {
+        objectStorage.list(prefix, pageConsumer);
+    }
+
+    /**
+     * 객체 일괄 삭제
+     *
+     * @param keys 삭제할 객체 키
+     * @return 삭제된 객체 키
+     */
+    public Set<String> deleteObjects(Collection<String> keys) {
+        return objectStorage.deleteAll(keys);
+    }
+
+    /**
+     * 우리 버킷 URL이면 객체 키 반환 (참조 카운트 관리용)
+     */
+    public Optional<String> objectKey(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith(objectStorage.baseUrl() + "/")) {
+            return Optional.empty();
+        }
+        return Optional.of(fileUrl.substring(objectStorage.baseUrl().length() + 1));
+    }
+
+    /**
+     * 우리 버킷의 지정 폴더에 있는 이미지 URL인지 확인
+     */
+    private boolean isManagedImageUrl(String fileUrl, S3Folder folder) {
+        if (fileUrl == null || fileUrl.isBlank()) {
+            return false;
+        }
+        String prefix = objectStorage.baseUrl() + "/" + folder.getPath() + "/";
+        return fileUrl.startsWith(prefix)
+                && !fileUrl.substring(prefix.length()).contains("/")
+                && !fileUrl.contains("..");
+    }
+
+    /**
+     * 읽으면서 SHA-256을 계산해 내용 주소 키로 저장하고 키 반환
+     * 첫 파트는 호출 스레드에서 읽고, 나머지 본문 읽기와 저장소 호출은 비동기로 처리한다.
+     * 파트 하나(5MB) 안에 끝나면 해시를 먼저 구해 최종 키로 바로 올리고,
+     * 그보다 크면 임시 키로 스트리밍 저장한 뒤 최종 키로 저장소 내부 복사한다.
+     */
+    private CompletableFuture<String> storeContentAddressed(InputStream body, S3Folder folder, ImageType imageType)
+            throws IOException {
+        MessageDigest digest = sha256Digest();
+        InputStream digestInput = new DigestInputStream(body, digest);
+
+        byte[] firstPart = digestInput.readNBytes(PART_SIZE);
+        if (firstPart.length < PART_SIZE) {
+            String fileName = contentAddressedKey(folder.getPath(), digest.digest(), imageType.getExtension());
+            return storeIfAbsent(fileName, () -> objectStorage.putAsync(
+                    fileName, firstPart, imageType.getContentType(), IMMUTABLE_CACHE_CONTROL));
+        }
+
+        String stagingKey = STAGING_FOLDER + "/" + UUID.randomUUID();
+        // 임시 저장이 끝나야 본문을 모두 읽은 것이므로 해시는 그 이후에 확정된다.
+        return objectStorage.putStreamAsync(stagingKey, firstPart, digestInput, imageType.getContentType())
+                .thenApply(ignored -> contentAddressedKey(folder.getPath(), digest.digest(), imageType.getExtension()))
+                .thenCompose(fileName -> storeIfAbsent(fileName, () -> objectStorage.copyAsync(
+                        stagingKey, fileName, imageType.getContentType(), IMMUTABLE_CACHE_CONTROL)))
+                .whenComplete((fileName, error) -> deleteObjectQuietly(stagingKey));
+    }
+
+    /**
+     * 최종 키에 객체가 없을 때만 저장하고, 이미 있으면 사용 시각만 기록한 뒤 키 반환
+     */
+    private CompletableFuture<String> storeIfAbsent(String fileName, Supplier<CompletableFuture<Void>> store) {
+        return objectStorage.existsAsync(fileName)
+                .thenCompose(exists -> {
+                    if (exists) {
+                        claim(fileName);
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    return store.get();
+                })
+                .thenApply(ignored -> fileName);
+    }
+
+    /**
+     * 객체 존재 여부 확인
+     */
+    boolean objectExists(String key) {
+        return objectStorage.exists(key);
+    }
+
+    /**
+     * 기존 객체 키를 다시 돌려줄 때 사용 시각 기록 (PUT을 생략해 LastModified가 갱신되지 않으므로)
+     */
+    private void claim(String key) {
+        eventPublisher.publishEvent(new ImageClaimedEvent(key));
+    }
+
+    private void deleteObjectQuietly(String key) {
+        objectStorage.deleteAsync(key)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.warn("[S3] 임시 객체 삭제 실패: key={}", key, unwrap(error));
+                    }
+                });
+    }
+
+    private Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
     }
 
     /**
@@ -146,6 +411,30 @@ public class S3Service {
         return folderPath + "/" + uuid + "." + extension;
     }
 
+    /**
+     * 내용 주소 파일명 생성
+     * 형식: {folderPath}/{sha256 hex}.{extension}
+     */
+    private String contentAddressedKey(String folderPath, byte[] sha256, String extension) {
+        return folderPath + "/" + HexFormat.of().formatHex(sha256) + "." + extension;
+    }
+
+    private byte[] sha256(InputStream inputStream) throws IOException {
+        MessageDigest digest = sha256Digest();
+        try (InputStream digestInput = new DigestInputStream(inputStream, digest)) {
+            digestInput.transferTo(OutputStream.nullOutputStream());
+        }
+        return digest.digest();
+    }
+
+    private MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 지원하지 않는 JVM입니다.", e);
+        }
+    }
+
     /**
      * S3에서 파일 삭제
      *
@@ -164,14 +453,11 @@ public class S3Service {
                 return;
             }
 
-            s3Client.deleteObject(builder -> builder
-                    .bucket(s3Properties.bucket())
-                    .key(fileKey)
-                    .build());
+            objectStorage.delete(fileKey);
 
             log.info("[S3] 파일 삭제 성공: fileKey={}", fileKey);
 
-        } catch (S3Exception e) {
+        } catch (ObjectStorageException e) {
             log.error("[S3] 파일 삭제 실패: url={}, error={}", fileUrl, e.getMessage(), e);
         }
     }
@@ -180,18 +466,19 @@ public class S3Service {
      * URL에서 파일 키 추출
      * 예: https://bucket.s3.region.amazonaws.com/songs/uuid.jpg -> songs/uuid.jpg
      */
-    private String extractFileKeyFromUrl(String fileUrl) {
+    String extractFileKeyFromUrl(String fileUrl) {
         try {
             // baseUrl이 포함되어 있는지 확인
-            String baseUrl = s3Properties.baseUrl();
+            String baseUrl = objectStorage.baseUrl();
             if (fileUrl.startsWith(baseUrl)) {
                 return fileUrl.substring(baseUrl.length() + 1); // +1은 '/' 제거
             }
 
             // 직접 버킷 URL 형식인 경우
-            int bucketIndex = fileUrl.indexOf(s3Properties.bucket());
+            String bucket = s3Properties.bucket();
+            int bucketIndex = bucket == null || bucket.isBlank() ? -1 : fileUrl.indexOf(bucket);
             if (bucketIndex != -1) {
-                int keyStartIndex = fileUrl.indexOf('/', bucketIndex + s3Properties.bucket().length()) + 1;
+                int keyStartIndex = fileUrl.indexOf('/', bucketIndex + bucket.length()) + 1;
                 if (keyStartIndex > 0 && keyStartIndex < fileUrl.length()) {
                     return fileUrl.substring(keyStartIndex);
                 }
@@ -203,4 +490,43 @@ public class S3Service {
             return null;
         }
     }
+
+    /**
+     * 최대 크기를 넘는 순간 읽기를 중단하는 스트림
+     */
+    private static class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+        private long count;
+
+        SizeLimitedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            count += n;
+            if (count > maxSize) {
+                throw new BusinessException(ErrorCode.IMAGE_TOO_LARGE);
+            }
+        }
+    }
 }
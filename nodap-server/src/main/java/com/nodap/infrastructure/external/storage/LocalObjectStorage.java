@@ -0,0 +1,247 @@
+package com.nodap.infrastructure.external.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일 시스템 객체 저장소
+ * storage.local.root 아래에 키를 경로로 그대로 저장하고, LocalFileController가 파일을 제공한다.
+ * 디스크 I/O는 호출 스레드에서 바로 처리하므로 비동기 메서드도 완료된 future를 반환한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStoragePort {
+
+    private static final int LIST_PAGE_SIZE = 1000;
+    private static final String TEMP_FILE_PREFIX = ".upload-";
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalObjectStorage(StorageProperties storageProperties) throws IOException {
+        this.root = Path.of(storageProperties.local().root()).toAbsolutePath().normalize();
+        this.baseUrl = storageProperties.local().baseUrl();
+        Files.createDirectories(root);
+        log.info("[Storage] 로컬 파일 저장소 사용: root={}, baseUrl={}", root, baseUrl);
+    }
+
+    @Override
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * 객체 키에 해당하는 파일 경로 (루트 밖을 가리키는 키는 거부)
+     */
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 객체 키입니다: " + key);
+        }
+        return path;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(String key) {
+        return CompletableFuture.completedFuture(exists(key));
+    }
+
+    @Override
+    public Optional<ObjectHead> readHead(String key, int length) {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // 요청한 길이 또는 파일 끝까지 읽는다.
+            }
+            byte[] header = new byte[buffer.position()];
+            buffer.flip().get(header);
+            return Optional.of(new ObjectHead(header, channel.size()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new ObjectStorageException("로컬 파일 조회 실패: key=" + key, e);
+        }
+    }
+
+    @Override
+    public InputStream read(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType, String cacheControl) {
+        try {
+            write(key, content);
+        } catch (IOException e) {
+            throw new ObjectStorageException("로컬 파일 저장 실패: key=" + key, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, byte[] content, String contentType, String cacheControl) {
+        try {
+            Path temp = createTempFile(key);
+            Files.write(temp, content);
+            moveIntoPlace(temp, key);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new ObjectStorageException("로컬 파일 저장 실패: key=" + key, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> putStreamAsync(String key, byte[] firstPart, InputStream rest, String contentType)
+            throws IOException {
+        Path temp = createTempFile(key);
+        try (var output = Files.newOutputStream(temp)) {
+            output.write(firstPart);
+            rest.transferTo(output);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        moveIntoPlace(temp, key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Void> copyAsync(String sourceKey, String targetKey, String contentType,
+                                             String cacheControl) {
+        try {
+            Path temp = createTempFile(targetKey);
+            Files.copy(resolve(sourceKey), temp, StandardCopyOption.REPLACE_EXISTING);
+            moveIntoPlace(temp, targetKey);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(
+                    new ObjectStorageException("로컬 파일 복사 실패: key=" + sourceKey + " -> " + targetKey, e));
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new ObjectStorageException("로컬 파일 삭제 실패: key=" + key, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String key) {
+        try {
+            delete(key);
+            return CompletableFuture.completedFuture(null);
+        } catch (ObjectStorageException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        Set<String> deleted = new HashSet<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+                deleted.add(key);
+            } catch (IOException e) {
+                log.warn("[Storage] 로컬 파일 삭제 실패: key={}, error={}", key, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 접두사 디렉터리 아래 파일을 1,000개 단위로 조회 (쓰는 중인 임시 파일 제외)
+     */
+    @Override
+    public void list(String prefix, Consumer<List<StoredObject>> pageConsumer) {
+        Path directory = root.resolve(prefix).normalize();
+        if (!directory.startsWith(root) || !Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<StoredObject> page = new ArrayList<>(LIST_PAGE_SIZE);
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                if (path.getFileName().toString().startsWith(TEMP_FILE_PREFIX)) {
+                    continue;
+                }
+                page.add(new StoredObject(
+                        root.relativize(path).toString().replace('\\', '/'),
+                        Files.size(path),
+                        Files.getLastModifiedTime(path).toInstant()));
+                if (page.size() == LIST_PAGE_SIZE) {
+                    pageConsumer.accept(List.copyOf(page));
+                    page.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!page.isEmpty()) {
+            pageConsumer.accept(List.copyOf(page));
+        }
+    }
+
+    /**
+     * 로컬 저장소는 서명된 직접 업로드를 지원하지 않는다. (스트리밍 업로드 API 사용)
+     */
+    @Override
+    public Optional<PresignedPut> presignPut(String key, String contentType, long contentLength, byte[] sha256,
+                                             String cacheControl) {
+        return Optional.empty();
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 최종 경로로 옮겨, 읽는 쪽이 쓰다 만 파일을 보지 않게 한다.
+     */
+    private void write(String key, InputStream content) throws IOException {
+        Path temp = createTempFile(key);
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        moveIntoPlace(temp, key);
+    }
+
+    private Path createTempFile(String key) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        return target.resolveSibling(TEMP_FILE_PREFIX + UUID.randomUUID());
+    }
+
+    private void moveIntoPlace(Path temp, String key) throws IOException {
+        Files.move(temp, resolve(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
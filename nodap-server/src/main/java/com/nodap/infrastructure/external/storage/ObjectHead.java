@@ -0,0 +1,13 @@
+package com.nodap.infrastructure.external.storage;
+
+/**
+ * 객체 앞부분 조회 결과
+ *
+ * @param header 앞부분 바이트
+ * @param size   객체 전체 크기 (bytes)
+ */
+public record ObjectHead(
+        byte[] header,
+        long size
+) {
+}
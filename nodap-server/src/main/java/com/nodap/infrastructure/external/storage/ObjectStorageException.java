@@ -0,0 +1,11 @@
+package com.nodap.infrastructure.external.storage;
+
+/**
+ * 객체 저장소 호출 실패
+ */
+public class ObjectStorageException extends RuntimeException {
+
+    public ObjectStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
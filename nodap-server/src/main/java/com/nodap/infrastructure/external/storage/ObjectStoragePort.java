@@ -0,0 +1,102 @@
+package com.nodap.infrastructure.external.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 객체 저장소 포트
+ * 이미지 원본/변형본을 키 단위로 저장·조회·삭제한다.
+ * 구현체는 storage.type 설정으로 선택한다. (s3: S3ObjectStorage, local: LocalObjectStorage)
+ */
+public interface ObjectStoragePort {
+
+    /**
+     * 저장된 객체를 가리키는 URL 접두사 (URL = baseUrl + "/" + key)
+     */
+    String baseUrl();
+
+    /**
+     * 객체 존재 여부 확인
+     */
+    boolean exists(String key);
+
+    /**
+     * 객체 존재 여부 비동기 확인
+     */
+    CompletableFuture<Boolean> existsAsync(String key);
+
+    /**
+     * 객체 앞부분과 전체 크기 조회 (형식 판별용)
+     *
+     * @return 객체가 없으면 empty
+     */
+    Optional<ObjectHead> readHead(String key, int length);
+
+    /**
+     * 객체 전체 읽기 (호출자가 스트림을 닫는다)
+     */
+    InputStream read(String key) throws IOException;
+
+    /**
+     * 객체 저장
+     */
+    void put(String key, InputStream content, long contentLength, String contentType, String cacheControl);
+
+    /**
+     * 메모리에 있는 객체 비동기 저장
+     */
+    CompletableFuture<Void> putAsync(String key, byte[] content, String contentType, String cacheControl);
+
+    /**
+     * 크기를 모르는 스트림 비동기 저장
+     * 본문은 반환된 future가 완료될 때까지 읽는다. (구현에 따라 반환 전에 모두 읽을 수도 있다)
+     * 따라서 본문 전체를 읽었다고 가정하는 작업은 future 완료 이후에 해야 한다.
+     *
+     * @param firstPart 이미 읽어 둔 앞부분
+     * @param rest      나머지 본문
+     */
+    CompletableFuture<Void> putStreamAsync(String key, byte[] firstPart, InputStream rest, String contentType)
+            throws IOException;
+
+    /**
+     * 저장소 내부 복사
+     */
+    CompletableFuture<Void> copyAsync(String sourceKey, String targetKey, String contentType, String cacheControl);
+
+    /**
+     * 객체 삭제
+     */
+    void delete(String key);
+
+    /**
+     * 객체 비동기 삭제
+     */
+    CompletableFuture<Void> deleteAsync(String key);
+
+    /**
+     * 객체 일괄 삭제
+     *
+     * @return 삭제된 객체 키
+     */
+    Set<String> deleteAll(Collection<String> keys);
+
+    /**
+     * 접두사 아래 객체를 페이지 단위로 조회
+     */
+    void list(String prefix, Consumer<List<StoredObject>> pageConsumer);
+
+    /**
+     * 클라이언트 직접 업로드용 서명된 PUT 요청 발급
+     *
+     * @param sha256 업로드할 내용의 SHA-256 (저장소가 검증, null이면 생략)
+     * @return 저장소가 직접 업로드를 지원하지 않으면 empty
+     */
+    Optional<PresignedPut> presignPut(String key, String contentType, long contentLength, byte[] sha256,
+                                      String cacheControl);
+}
@@ -0,0 +1,18 @@
+package com.nodap.infrastructure.external.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 서명된 PUT 요청
+ *
+ * @param url       PUT 요청을 보낼 URL
+ * @param headers   요청에 그대로 포함해야 하는 서명된 헤더
+ * @param expiresAt url 만료 시각
+ */
+public record PresignedPut(
+        String url,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,437 @@
+package com.nodap.infrastructure.external.storage;
+
+import com.nodap.infrastructure.external.S3Properties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * AWS S3 객체 저장소
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "s3", matchIfMissing = true)
+@RequiredArgsConstructor
+public class S3ObjectStorage implements ObjectStoragePort {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024; // S3 멀티파트 최소 파트 크기
+    private static final int DELETE_BATCH_SIZE = 1000; // DeleteObjects 1회 최대 키 수
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final S3Properties s3Properties;
+
+    @Override
+    public String baseUrl() {
+        return s3Properties.baseUrl();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(builder -> builder.bucket(s3Properties.bucket()).key(key));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(String key) {
+        return s3AsyncClient.headObject(builder -> builder.bucket(s3Properties.bucket()).key(key))
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return true;
+                    }
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof S3Exception e && e.statusCode() == 404) {
+                        return false;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    @Override
+    public Optional<ObjectHead> readHead(String key, int length) {
+        ResponseBytes<GetObjectResponse> head;
+        try {
+            head = s3Client.getObjectAsBytes(builder -> builder
+                    .bucket(s3Properties.bucket())
+                    .key(key)
+                    .range("bytes=0-" + (length - 1)));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404 || e.statusCode() == 416) {
+                return Optional.empty();
+            }
+            throw new ObjectStorageException("S3 객체 조회 실패: key=" + key, e);
+        } catch (SdkException e) {
+            throw new ObjectStorageException("S3 객체 조회 실패: key=" + key, e);
+        }
+        return Optional.of(new ObjectHead(head.asByteArray(), totalSize(head.response())));
+    }
+
+    /**
+     * Range 응답의 전체 객체 크기 (Content-Range: bytes 0-11/12345)
+     */
+    private long totalSize(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange != null && contentRange.contains("/")) {
+            String total = contentRange.substring(contentRange.lastIndexOf('/') + 1);
+            if (!total.equals("*")) {
+                return Long.parseLong(total);
+            }
+        }
+        return response.contentLength() != null ? response.contentLength() : 0;
+    }
+
+    @Override
+    public InputStream read(String key) {
+        return s3Client.getObject(builder -> builder
+                .bucket(s3Properties.bucket())
+                .key(key));
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType, String cacheControl) {
+        try {
+            // ACL 설정 제거: 최신 AWS S3 버킷은 기본적으로 ACL을 비활성화합니다.
+            // 대신 버킷 정책을 사용하여 퍼블릭 읽기 권한을 부여해야 합니다.
+            s3Client.putObject(putObjectRequest(key, contentType, cacheControl),
+                    RequestBody.fromInputStream(content, contentLength));
+        } catch (S3Exception e) {
+            log.error("[S3] 객체 업로드 실패: key={}, error={}", key, e.getMessage(), e);
+
+            // AWS 자격 증명 관련 에러인 경우 더 명확한 메시지 제공
+            String errorMessage = e.getMessage();
+            if (errorMessage != null) {
+                if (errorMessage.contains("Access Key Id") || errorMessage.contains("does not exist")) {
+                    throw new RuntimeException(
+                        "AWS 자격 증명이 올바르지 않습니다. " +
+                        "application-local.yml의 aws.s3.access-key와 aws.s3.secret-key를 확인하거나 " +
+                        "환경 변수 AWS_ACCESS_KEY와 AWS_SECRET_KEY를 확인하세요. " +
+                        "원본 에러: " + errorMessage, e
+                    );
+                } else if (errorMessage.contains("Access Denied") || errorMessage.contains("403")) {
+                    throw new RuntimeException(
+                        "AWS 자격 증명에 S3 버킷 접근 권한이 없습니다. " +
+                        "IAM 사용자의 권한을 확인하세요. 원본 에러: " + errorMessage, e
+                    );
+                }
+            }
+
+            throw new RuntimeException("S3 업로드 실패: " + errorMessage, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, byte[] content, String contentType, String cacheControl) {
+        return s3AsyncClient.putObject(putObjectRequest(key, contentType, cacheControl), AsyncRequestBody.fromBytes(content))
+                .thenApply(response -> null);
+    }
+
+    /**
+     * 파트 단위(5MB)로 읽어 병렬 멀티파트 업로드
+     * 멀티파트 생성부터 완료까지 모두 비동기로 이어지며, 호출 스레드는 기다리지 않고 바로 반환된다.
+     * 다음 파트는 앞 파트 전송이 끝난 콜백에서 읽으므로 동시에 업로드 중인 파트 수가
+     * 요청당 메모리 사용량(동시 파트 수 x 5MB)을 묶어둔다. 본문은 반환된 future가 완료될 때까지 읽는다.
+     */
+    @Override
+    public CompletableFuture<Void> putStreamAsync(String key, byte[] firstPart, InputStream rest, String contentType) {
+        return s3AsyncClient.createMultipartUpload(builder -> builder
+                        .bucket(s3Properties.bucket())
+                        .key(key)
+                        .contentType(contentType))
+                .thenCompose(response -> new StreamingMultipartUpload(key, response.uploadId(), firstPart, rest).start());
+    }
+
+    @Override
+    public CompletableFuture<Void> copyAsync(String sourceKey, String targetKey, String contentType,
+                                             String cacheControl) {
+        return s3AsyncClient.copyObject(builder -> builder
+                        .sourceBucket(s3Properties.bucket())
+                        .sourceKey(sourceKey)
+                        .destinationBucket(s3Properties.bucket())
+                        .destinationKey(targetKey)
+                        .contentType(contentType)
+                        .cacheControl(cacheControl)
+                        .metadataDirective(MetadataDirective.REPLACE))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            s3Client.deleteObject(builder -> builder
+                    .bucket(s3Properties.bucket())
+                    .key(key));
+        } catch (SdkException e) {
+            throw new ObjectStorageException("S3 객체 삭제 실패: key=" + key, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String key) {
+        return s3AsyncClient.deleteObject(builder -> builder.bucket(s3Properties.bucket()).key(key))
+                .thenApply(response -> null);
+    }
+
+    /**
+     * DeleteObjects 1회당 최대 1,000개씩 삭제
+     */
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        List<String> keyList = List.copyOf(keys);
+        Set<String> deleted = new HashSet<>();
+
+        for (int from = 0; from < keyList.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> batch = keyList.subList(from, Math.min(from + DELETE_BATCH_SIZE, keyList.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(builder -> builder
+                    .bucket(s3Properties.bucket())
+                    .delete(delete -> delete.objects(batch)));
+
+            response.deleted().forEach(object -> deleted.add(object.key()));
+            response.errors().forEach(error -> log.warn("[S3] 일괄 삭제 실패: key={}, code={}, message={}",
+                    error.key(), error.code(), error.message()));
+        }
+
+        return deleted;
+    }
+
+    /**
+     * 페이지(최대 1,000개) 단위로 조회
+     */
+    @Override
+    public void list(String prefix, Consumer<List<StoredObject>> pageConsumer) {
+        s3Client.listObjectsV2Paginator(builder -> builder
+                        .bucket(s3Properties.bucket())
+                        .prefix(prefix))
+                .forEach(page -> pageConsumer.accept(page.contents().stream()
+                        .map(object -> new StoredObject(object.key(), object.size(), object.lastModified()))
+                        .toList()));
+    }
+
+    /**
+     * Content-Type과 Content-Length가 서명에 포함되므로 신고한 형식/크기와 다른 업로드는 S3가 거부한다.
+     */
+    @Override
+    public Optional<PresignedPut> presignPut(String key, String contentType, long contentLength, byte[] sha256,
+                                             String cacheControl) {
+        PutObjectRequest.Builder putObjectRequest = PutObjectRequest.builder()
+                .bucket(s3Properties.bucket())
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .cacheControl(cacheControl);
+        if (sha256 != null) {
+            putObjectRequest.checksumSHA256(Base64.getEncoder().encodeToString(sha256));
+        }
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(builder -> builder
+                .signatureDuration(s3Properties.presignExpiry())
+                .putObjectRequest(putObjectRequest.build()));
+
+        // host는 브라우저/HTTP 클라이언트가 자동으로 채운다.
+        Map<String, String> headers = presigned.signedHeaders().entrySet().stream()
+                .filter(header -> !header.getKey().equalsIgnoreCase("host"))
+                .collect(Collectors.toMap(Map.Entry::getKey, header -> String.join(",", header.getValue())));
+
+        return Optional.of(new PresignedPut(presigned.url().toString(), headers, presigned.expiration()));
+    }
+
+    private void abortMultipartUpload(String key, String uploadId) {
+        s3AsyncClient.abortMultipartUpload(builder -> builder
+                        .bucket(s3Properties.bucket())
+                        .key(key)
+                        .uploadId(uploadId))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        log.warn("[S3] 멀티파트 업로드 중단 실패: key={}, uploadId={}", key, uploadId, unwrap(error));
+                    }
+                });
+    }
+
+    private Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private PutObjectRequest putObjectRequest(String key, String contentType, String cacheControl) {
+        return PutObjectRequest.builder()
+                .bucket(s3Properties.bucket())
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    /**
+     * 스트림 하나의 멀티파트 업로드 진행 상태
+     * 파트 전송이 끝날 때마다 다음 파트를 읽어 올리고, 모든 파트가 끝나면 업로드를 완료(실패 시 중단)한다.
+     * 본문 읽기와 상태 변경은 이 객체의 락 안에서 한 스레드씩만 수행한다.
+     * 콜백은 SDK의 future 완료 스레드 풀에서 실행되므로 본문 읽기가 Netty 이벤트 루프를 막지 않는다.
+     */
+    private final class StreamingMultipartUpload {
+
+        private final String key;
+        private final String uploadId;
+        private final InputStream rest;
+        private final List<CompletedPart> completedParts = new ArrayList<>();
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private byte[] pendingPart;
+        private int partCount;
+        private int inFlight;
+        private boolean exhausted;
+        private boolean pumping;
+        private boolean finished;
+        private Throwable failure;
+
+        private StreamingMultipartUpload(String key, String uploadId, byte[] firstPart, InputStream rest) {
+            this.key = key;
+            this.uploadId = uploadId;
+            this.pendingPart = firstPart;
+            this.rest = rest;
+        }
+
+        private CompletableFuture<Void> start() {
+            pump();
+            return result;
+        }
+
+        /**
+         * 동시 전송 한도까지 파트를 읽어 올리고, 더 올릴 파트가 없으면 마무리한다.
+         * 전송이 바로 끝나 콜백이 안에서 다시 호출되면 바깥 반복에서 이어서 처리한다.
+         */
+        private synchronized void pump() {
+            if (pumping) {
+                return;
+            }
+            pumping = true;
+            try {
+                while (!exhausted && failure == null && inFlight < s3Properties.partUploadConcurrency()) {
+                    byte[] part = nextPart();
+                    if (part.length == 0) {
+                        exhausted = true;
+                        break;
+                    }
+                    uploadPart(++partCount, part);
+                }
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+            } finally {
+                pumping = false;
+            }
+
+            if (!finished && inFlight == 0 && (exhausted || failure != null)) {
+                finished = true;
+                finish();
+            }
+        }
+
+        private byte[] nextPart() throws IOException {
+            if (pendingPart != null) {
+                byte[] part = pendingPart;
+                pendingPart = null;
+                return part;
+            }
+            return rest.readNBytes(PART_SIZE);
+        }
+
+        private void uploadPart(int partNumber, byte[] part) {
+            inFlight++;
+            s3AsyncClient.uploadPart(builder -> builder
+                                    .bucket(s3Properties.bucket())
+                                    .key(key)
+                                    .uploadId(uploadId)
+                                    .partNumber(partNumber),
+                            AsyncRequestBody.fromBytes(part))
+                    .whenComplete((response, error) -> onPartUploaded(partNumber, response, error));
+        }
+
+        private synchronized void onPartUploaded(int partNumber, UploadPartResponse response, Throwable error) {
+            inFlight--;
+            if (error != null) {
+                if (failure == null) {
+                    failure = unwrap(error);
+                }
+            } else {
+                completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+            }
+            pump();
+        }
+
+        /**
+         * 전송 중인 파트가 없을 때 한 번만 호출된다.
+         */
+        private void finish() {
+            if (failure != null) {
+                abortMultipartUpload(key, uploadId);
+                result.completeExceptionally(failure);
+                return;
+            }
+
+            List<CompletedPart> parts = completedParts.stream()
+                    .sorted(Comparator.comparing(CompletedPart::partNumber))
+                    .toList();
+            s3AsyncClient.completeMultipartUpload(builder -> builder
+                            .bucket(s3Properties.bucket())
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(upload -> upload.parts(parts)))
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            abortMultipartUpload(key, uploadId);
+                            result.completeExceptionally(unwrap(error));
+                        } else {
+                            result.complete(null);
+                        }
+                    });
+        }
+    }
+}
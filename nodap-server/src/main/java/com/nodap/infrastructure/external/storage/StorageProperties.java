@@ -0,0 +1,53 @@
+package com.nodap.infrastructure.external.storage;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 객체 저장소 설정 프로퍼티
+ * 생성자 바인딩 사용 (Setter 금지)
+ */
+@ConfigurationProperties(prefix = "storage")
+public record StorageProperties(
+        /**
+         * 저장소 종류 (s3, local)
+         */
+        StorageType type,
+
+        /**
+         * 로컬 파일 시스템 저장소 설정 (type=local일 때만 사용)
+         */
+        Local local
+) {
+    public StorageProperties {
+        if (type == null) {
+            type = StorageType.S3;
+        }
+        if (local == null) {
+            local = new Local(null, null);
+        }
+    }
+
+    public record Local(
+            /**
+             * 파일 저장 루트 디렉터리
+             */
+            String root,
+
+            /**
+             * 파일 제공 URL 접두사 (LocalFileController 주소)
+             */
+            String baseUrl
+    ) {
+        public Local {
+            if (root == null || root.isBlank()) {
+                root = "./data/storage";
+            }
+            if (baseUrl == null || baseUrl.isBlank()) {
+                baseUrl = "http://localhost:8080/api/v1/files";
+            }
+            if (baseUrl.endsWith("/")) {
+                baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.nodap.infrastructure.external.storage;
+
+/**
+ * 객체 저장소 종류
+ */
+public enum StorageType {
+    /**
+     * AWS S3 (또는 LocalStack/MinIO 등 S3 호환 저장소)
+     */
+    S3,
+
+    /**
+     * 로컬 파일 시스템 (로컬 개발, 오프라인 부하 테스트, 단일 서버 배포)
+     */
+    LOCAL
+}
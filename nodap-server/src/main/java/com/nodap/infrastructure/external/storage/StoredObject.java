@@ -0,0 +1,17 @@
+package com.nodap.infrastructure.external.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소 객체 정보
+ *
+ * @param key          객체 키
+ * @param size         크기 (bytes)
+ * @param lastModified 마지막 수정 시각
+ */
+public record StoredObject(
+        String key,
+        long size,
+        Instant lastModified
+) {
+}
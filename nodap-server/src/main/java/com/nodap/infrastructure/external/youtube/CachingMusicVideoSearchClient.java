@@ -0,0 +1,185 @@
+package com.nodap.infrastructure.external.youtube;
+
+import com.nodap.application.music.MusicSearchKey;
+import com.nodap.application.music.MusicVideoSearchPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * MV 검색 결과 캐시 데코레이터
+ * 인메모리 LRU → Redis → 실제 검색 순으로 조회하며, 검색 결과 없음도 짧은 TTL로 캐시한다.
+ * 검색 중 발생한 예외는 캐시하지 않는다.
+ * 인메모리 조회만 호출 스레드에서 하고, Redis 조회는 lookupExecutor에서 실행한다.
+ * 캐시 저장은 검색을 완료한 스레드(lookupExecutor 또는 YouTube 응답 처리 스레드)에서 실행된다.
+ */
+@Slf4j
+public class CachingMusicVideoSearchClient implements MusicVideoSearchPort {
+
+    private static final String KEY_PREFIX = "mv_search:";
+    private static final String NEGATIVE_VALUE = "-";
+
+    private final MusicVideoSearchPort delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final YoutubeProperties.Cache cacheProperties;
+    private final Map<String, CachedResult> localCache;
+    private final Executor lookupExecutor;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter negativeHitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public CachingMusicVideoSearchClient(MusicVideoSearchPort delegate,
+                                         StringRedisTemplate redisTemplate,
+                                         YoutubeProperties.Cache cacheProperties,
+                                         Executor lookupExecutor,
+                                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.cacheProperties = cacheProperties;
+        this.lookupExecutor = lookupExecutor;
+
+        this.localHitCounter = requestCounter(meterRegistry, "local_hit");
+        this.redisHitCounter = requestCounter(meterRegistry, "redis_hit");
+        this.negativeHitCounter = requestCounter(meterRegistry, "negative_hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.evictionCounter = Counter.builder("youtube.search.cache.evictions")
+                .description("인메모리 LRU에서 밀려난 MV 검색 결과 수")
+                .register(meterRegistry);
+
+        int maxSize = cacheProperties.localMaxSize();
+        this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                if (size() > maxSize) {
+                    evictionCounter.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("youtube.search.cache.local.size", this, cache -> cache.localSize())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> searchAsync(String artist, String title) {
+        String key = MusicSearchKey.of(artist, title).value();
+
+        CachedResult local = getLocal(key);
+        if (local != null) {
+            (local.isNegative() ? negativeHitCounter : localHitCounter).increment();
+            return CompletableFuture.completedFuture(Optional.ofNullable(local.url()));
+        }
+
+        CompletableFuture<CachedResult> remote;
+        try {
+            remote = CompletableFuture.supplyAsync(() -> getRedis(key), lookupExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return remote.thenCompose(cached -> {
+            if (cached != null) {
+                (cached.isNegative() ? negativeHitCounter : redisHitCounter).increment();
+                putLocal(key, cached.url());
+                return CompletableFuture.completedFuture(Optional.ofNullable(cached.url()));
+            }
+
+            missCounter.increment();
+            return delegate.searchAsync(artist, title)
+                    .thenApply(videoUrl -> {
+                        putRedis(key, videoUrl.orElse(null));
+                        putLocal(key, videoUrl.orElse(null));
+                        return videoUrl;
+                    });
+        });
+    }
+
+    private CachedResult getLocal(String key) {
+        synchronized (localCache) {
+            CachedResult cached = localCache.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAtMillis() < System.currentTimeMillis()) {
+                localCache.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void putLocal(String key, String url) {
+        Duration ttl = url == null
+                ? min(cacheProperties.localTtl(), cacheProperties.negativeTtl())
+                : cacheProperties.localTtl();
+
+        synchronized (localCache) {
+            localCache.put(key, new CachedResult(url, System.currentTimeMillis() + ttl.toMillis()));
+        }
+    }
+
+    private int localSize() {
+        synchronized (localCache) {
+            return localCache.size();
+        }
+    }
+
+    private CachedResult getRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (value == null) {
+                return null;
+            }
+            return new CachedResult(NEGATIVE_VALUE.equals(value) ? null : value, Long.MAX_VALUE);
+        } catch (RuntimeException e) {
+            log.warn("[YouTube] MV 검색 캐시 조회 실패: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRedis(String key, String url) {
+        try {
+            if (url == null) {
+                redisTemplate.opsForValue().set(KEY_PREFIX + key, NEGATIVE_VALUE, cacheProperties.negativeTtl());
+            } else {
+                redisTemplate.opsForValue().set(KEY_PREFIX + key, url, cacheProperties.ttl());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[YouTube] MV 검색 캐시 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("youtube.search.cache.requests")
+                .description("MV 검색 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    /**
+     * 캐시 항목 (url이 null이면 검색 결과 없음)
+     */
+    private record CachedResult(String url, long expiresAtMillis) {
+        boolean isNegative() {
+            return url == null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.nodap.infrastructure.external.youtube;
+
+import com.nodap.application.music.MusicVideoSearchPort;
+import com.nodap.application.music.SongCatalogService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 노래 카탈로그 우선 조회 데코레이터
+ * 로컬 카탈로그에서 신뢰도 높은 결과를 찾으면 외부 검색을 생략한다.
+ * 카탈로그 조회(JPA)는 호출 스레드가 아닌 lookupExecutor에서 실행한다.
+ */
+@Slf4j
+public class CatalogMusicVideoSearchClient implements MusicVideoSearchPort {
+
+    private final MusicVideoSearchPort delegate;
+    private final SongCatalogService songCatalogService;
+    private final Executor lookupExecutor;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CatalogMusicVideoSearchClient(MusicVideoSearchPort delegate,
+                                         SongCatalogService songCatalogService,
+                                         Executor lookupExecutor,
+                                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.songCatalogService = songCatalogService;
+        this.lookupExecutor = lookupExecutor;
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> searchAsync(String artist, String title) {
+        CompletableFuture<Optional<String>> lookup;
+        try {
+            lookup = CompletableFuture.supplyAsync(() -> findCataloged(artist, title), lookupExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return lookup.thenCompose(cataloged -> {
+            if (cataloged.isPresent()) {
+                hitCounter.increment();
+                return CompletableFuture.completedFuture(cataloged);
+            }
+
+            missCounter.increment();
+            return delegate.searchAsync(artist, title);
+        });
+    }
+
+    private Optional<String> findCataloged(String artist, String title) {
+        try {
+            return songCatalogService.findVideoUrl(artist, title);
+        } catch (RuntimeException e) {
+            log.warn("[Catalog] 카탈로그 조회 실패: error={}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("song.catalog.lookups")
+                .description("노래 카탈로그 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package com.nodap.infrastructure.external.youtube;
+
+import com.nodap.application.music.MusicSearchKey;
+import com.nodap.application.music.MusicVideoSearchPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MV 검색 요청 병합 (single-flight)
+ * 같은 정규화 키에 대한 동시 검색은 먼저 들어온 요청 하나만 실제로 호출하고, 나머지는 같은 future를 공유한다.
+ */
+public class SingleFlightMusicVideoSearchClient implements MusicVideoSearchPort {
+
+    private final MusicVideoSearchPort delegate;
+    private final YoutubeProperties.SingleFlight properties;
+    private final ConcurrentMap<String, CompletableFuture<Optional<String>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter coalescedCounter;
+    private final Counter bypassedCounter;
+
+    public SingleFlightMusicVideoSearchClient(MusicVideoSearchPort delegate,
+                                              YoutubeProperties.SingleFlight properties,
+                                              MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.coalescedCounter = Counter.builder("youtube.search.singleflight.coalesced")
+                .description("진행 중인 검색에 합류한 요청 수")
+                .register(meterRegistry);
+        this.bypassedCounter = Counter.builder("youtube.search.singleflight.bypassed")
+                .description("키 테이블이 가득 차 병합 없이 호출한 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("youtube.search.singleflight.keys", inFlight, ConcurrentMap::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> searchAsync(String artist, String title) {
+        String key = MusicSearchKey.of(artist, title).value();
+
+        CompletableFuture<Optional<String>> leader = inFlight.get(key);
+        if (leader != null) {
+            coalescedCounter.increment();
+            return follow(leader);
+        }
+
+        if (inFlight.size() >= properties.maxKeys()) {
+            bypassedCounter.increment();
+            return delegate.searchAsync(artist, title);
+        }
+
+        CompletableFuture<Optional<String>> call = new CompletableFuture<>();
+        leader = inFlight.putIfAbsent(key, call);
+        if (leader != null) {
+            coalescedCounter.increment();
+            return follow(leader);
+        }
+
+        CompletableFuture<Optional<String>> result;
+        try {
+            result = delegate.searchAsync(artist, title);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((videoUrl, error) -> {
+            inFlight.remove(key, call);
+            if (error != null) {
+                call.completeExceptionally(error);
+            } else {
+                call.complete(videoUrl);
+            }
+        });
+        return call;
+    }
+
+    /**
+     * 진행 중인 검색에 합류 (대기 시간 초과가 원본 검색에 영향을 주지 않도록 복사본에 타임아웃을 건다)
+     */
+    private CompletableFuture<Optional<String>> follow(CompletableFuture<Optional<String>> leader) {
+        return leader.copy().orTimeout(properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,155 @@
+package com.nodap.infrastructure.external.youtube;
+
+import com.nodap.application.music.MusicVideoSearchUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * YouTube Data API 호출 보호
+ * 일일 쿼터에 맞춘 토큰 버킷과, 403/5xx가 반복되면 호출을 차단하는 circuit breaker를 함께 관리한다.
+ */
+@Slf4j
+@Component
+public class YoutubeCallGuard {
+
+    private static final double NANOS_PER_DAY = Duration.ofDays(1).toNanos();
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final YoutubeProperties.CircuitBreaker circuitBreakerProperties;
+    private final double capacity;
+    private final double refillPerNano;
+
+    private final Counter rateLimitedCounter;
+    private final Counter circuitOpenCounter;
+
+    // 토큰 버킷
+    private double tokens;
+    private long lastRefillNanos;
+
+    // circuit breaker
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean halfOpenTrialInFlight;
+
+    public YoutubeCallGuard(YoutubeProperties youtubeProperties, MeterRegistry meterRegistry) {
+        YoutubeProperties.Quota quota = youtubeProperties.quota();
+        this.circuitBreakerProperties = youtubeProperties.circuitBreaker();
+        this.capacity = quota.burst();
+        this.refillPerNano = ((double) quota.dailyUnits() / quota.searchCost()) / NANOS_PER_DAY;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+
+        this.rateLimitedCounter = rejectedCounter(meterRegistry, "rate_limited");
+        this.circuitOpenCounter = rejectedCounter(meterRegistry, "circuit_open");
+        Gauge.builder("youtube.search.quota.remaining", this, YoutubeCallGuard::remainingTokens)
+                .description("현재 사용 가능한 검색 호출 수 (토큰 버킷)")
+                .register(meterRegistry);
+        Gauge.builder("youtube.search.circuit.state", this, guard -> guard.state().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 획득
+     *
+     * @throws MusicVideoSearchUnavailableException 차단 중이거나 쿼터 예산을 모두 사용한 경우
+     */
+    public synchronized void acquire() {
+        if (!allowedByCircuit()) {
+            circuitOpenCounter.increment();
+            throw new MusicVideoSearchUnavailableException("YouTube 검색 일시 차단 중입니다.");
+        }
+
+        refill();
+        if (tokens < 1) {
+            halfOpenTrialInFlight = false;
+            rateLimitedCounter.increment();
+            throw new MusicVideoSearchUnavailableException("YouTube 검색 쿼터 예산을 모두 사용했습니다.");
+        }
+        tokens -= 1;
+    }
+
+    /**
+     * 호출 성공 (YouTube가 정상 응답한 경우)
+     */
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("[YouTube] circuit closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        halfOpenTrialInFlight = false;
+    }
+
+    /**
+     * 호출 실패 (403, 5xx, 타임아웃 등)
+     */
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= circuitBreakerProperties.failureThreshold()) {
+            if (state != State.OPEN) {
+                log.warn("[YouTube] circuit opened: consecutiveFailures={}", consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+            halfOpenTrialInFlight = false;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private boolean allowedByCircuit() {
+        switch (state) {
+            case OPEN -> {
+                if (System.nanoTime() - openedAtNanos < circuitBreakerProperties.openDuration().toNanos()) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                halfOpenTrialInFlight = true;
+                log.info("[YouTube] circuit half-open: 시험 호출 허용");
+                return true;
+            }
+            case HALF_OPEN -> {
+                if (halfOpenTrialInFlight) {
+                    return false;
+                }
+                halfOpenTrialInFlight = true;
+                return true;
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+
+    private synchronized double remainingTokens() {
+        refill();
+        return Math.floor(tokens);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("youtube.search.rejected")
+                .description("호출하지 않고 거절한 YouTube 검색 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
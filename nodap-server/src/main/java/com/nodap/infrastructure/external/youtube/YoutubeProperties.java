@@ -1,8 +1,9 @@
 package com.nodap.infrastructure.external.youtube;
 
-import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * YouTube API 설정 프로퍼티
  * 생성자 바인딩 사용
@@ -10,6 +11,151 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "youtube")
 public record YoutubeProperties(
-        String apiKey
+        String apiKey,
+
+        /**
+         * YouTube Data API Base URL (로컬 테스트 시 stub 서버로 교체)
+         */
+        String baseUrl,
+
+        /**
+         * 검색 요청 응답 타임아웃
+         */
+        Duration timeout,
+
+        /**
+         * MV 검색 결과 캐시 설정
+         */
+        Cache cache,
+
+        /**
+         * 동시 검색 병합 설정
+         */
+        SingleFlight singleFlight,
+
+        /**
+         * 일일 쿼터 설정
+         */
+        Quota quota,
+
+        /**
+         * 장애 차단 설정
+         */
+        CircuitBreaker circuitBreaker
 ) {
+    public YoutubeProperties {
+        if (baseUrl == null || baseUrl.isBlank()) {
+            baseUrl = "https://www.googleapis.com";
+        }
+        if (timeout == null) {
+            timeout = Duration.ofSeconds(3);
+        }
+        if (cache == null) {
+            cache = new Cache(null, null, 0, null);
+        }
+        if (singleFlight == null) {
+            singleFlight = new SingleFlight(0, null);
+        }
+        if (quota == null) {
+            quota = new Quota(0, 0, 0);
+        }
+        if (circuitBreaker == null) {
+            circuitBreaker = new CircuitBreaker(0, null);
+        }
+    }
+
+    /**
+     * MV 검색 결과 캐시 설정
+     *
+     * @param ttl          검색 성공 결과 Redis 보관 기간
+     * @param negativeTtl  검색 결과 없음 Redis 보관 기간
+     * @param localMaxSize 인메모리 LRU 최대 항목 수
+     * @param localTtl     인메모리 LRU 항목 보관 기간
+     */
+    public record Cache(
+            Duration ttl,
+            Duration negativeTtl,
+            int localMaxSize,
+            Duration localTtl
+    ) {
+        public Cache {
+            if (ttl == null) {
+                ttl = Duration.ofDays(7);
+            }
+            if (negativeTtl == null) {
+                negativeTtl = Duration.ofMinutes(10);
+            }
+            if (localMaxSize <= 0) {
+                localMaxSize = 1000;
+            }
+            if (localTtl == null) {
+                localTtl = Duration.ofMinutes(10);
+            }
+        }
+    }
+
+    /**
+     * 동시 검색 병합 설정
+     *
+     * @param maxKeys 동시에 추적하는 최대 검색 키 수 (초과 시 병합 없이 호출)
+     * @param timeout 진행 중인 검색 결과를 기다리는 최대 시간
+     */
+    public record SingleFlight(
+            int maxKeys,
+            Duration timeout
+    ) {
+        public SingleFlight {
+            if (maxKeys <= 0) {
+                maxKeys = 1000;
+            }
+            if (timeout == null) {
+                timeout = Duration.ofSeconds(10);
+            }
+        }
+    }
+
+    /**
+     * 일일 쿼터 설정
+     *
+     * @param dailyUnits 하루 사용 가능한 쿼터 단위 (YouTube 기본 10,000)
+     * @param searchCost search.list 1회 호출 비용 (100)
+     * @param burst      순간적으로 허용하는 최대 호출 수
+     */
+    public record Quota(
+            int dailyUnits,
+            int searchCost,
+            int burst
+    ) {
+        public Quota {
+            if (dailyUnits <= 0) {
+                dailyUnits = 10_000;
+            }
+            if (searchCost <= 0) {
+                searchCost = 100;
+            }
+            if (burst <= 0) {
+                burst = 10;
+            }
+        }
+    }
+
+    /**
+     * 장애 차단 설정
+     *
+     * @param failureThreshold 연속 실패 시 차단을 시작하는 횟수
+     * @param openDuration     차단 유지 시간 (이후 시험 호출 1회 허용)
+     */
+    public record CircuitBreaker(
+            int failureThreshold,
+            Duration openDuration
+    ) {
+        public CircuitBreaker {
+            if (failureThreshold <= 0) {
+                failureThreshold = 5;
+            }
+            if (openDuration == null) {
+                openDuration = Duration.ofMinutes(1);
+            }
+        }
+    }
 }
@@ -1,27 +1,74 @@
 package com.nodap.infrastructure.external.youtube;
 
+import com.nodap.application.music.MusicVideoFoundEvent;
 import com.nodap.application.music.MusicVideoSearchPort;
-import lombok.RequiredArgsConstructor;
+import com.nodap.application.music.MusicVideoSearchUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class YoutubeSearchClient implements MusicVideoSearchPort {
 
+    private static final String SEARCH_PATH = "/youtube/v3/search";
+    private static final int MAX_RETRIES = 1;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
     private final YoutubeProperties youtubeProperties;
     private final WebClient webClient;
+    private final YoutubeCallGuard callGuard;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Override
-    public String search(String artist, String title) {
+    public YoutubeSearchClient(YoutubeProperties youtubeProperties,
+                               @Qualifier("youtubeWebClient") WebClient webClient,
+                               YoutubeCallGuard callGuard,
+                               ApplicationEventPublisher eventPublisher) {
+        this.youtubeProperties = youtubeProperties;
+        this.webClient = webClient;
+        this.callGuard = callGuard;
+        this.eventPublisher = eventPublisher;
+    }
 
+    @Override
+    public CompletableFuture<Optional<String>> searchAsync(String artist, String title) {
         String query = artist + " " + title + " official music Video";
 
-        YoutubeSearchResponse response = webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .scheme("https")
-                        .host("www.googleapis.com")
-                        .path("/youtube/v3/search")
+        return Mono.defer(() -> search(query))
+                .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF).filter(this::isServerError))
+                // 이후 단계(캐시 저장, 카탈로그 적재, DB 반영)는 블로킹 I/O이므로 Netty 이벤트 루프에서 분리한다.
+                .publishOn(Schedulers.boundedElastic())
+                .map(response -> toVideoUrl(artist, title, response))
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    /**
+     * search.list 1회 호출
+     * 재시도도 쿼터를 쓰므로 시도마다 호출 허가를 받고, 결과를 circuit breaker에 기록한다.
+     * 허가를 받지 못하면 네트워크 호출 없이 MusicVideoSearchUnavailableException으로 끝난다.
+     */
+    private Mono<YoutubeSearchResponse> search(String query) {
+        try {
+            callGuard.acquire();
+        } catch (MusicVideoSearchUnavailableException e) {
+            return Mono.error(e);
+        }
+
+        return webClient.get()
+                .uri(youtubeProperties.baseUrl() + SEARCH_PATH, uriBuilder -> uriBuilder
                         .queryParam("part", "snippet")
                         .queryParam("q", query)
                         .queryParam("type", "video")
@@ -31,13 +78,57 @@ public class YoutubeSearchClient implements MusicVideoSearchPort {
                         .build())
                 .retrieve()
                 .bodyToMono(YoutubeSearchResponse.class)
-                .block();
+                .timeout(youtubeProperties.timeout())
+                .doOnError(this::recordFailure)
+                .doOnSuccess(response -> callGuard.recordSuccess());
+    }
+
+    private Optional<String> toVideoUrl(String artist, String title, YoutubeSearchResponse response) {
+        if (response.getItems() == null || response.getItems().isEmpty()) {
+            return Optional.empty();
+        }
 
-        if (response == null || response.getItems().isEmpty()) {
+        YoutubeSearchResponse.Item item = response.getItems().get(0);
+        String videoId = item.getId().getVideoId();
+
+        eventPublisher.publishEvent(new MusicVideoFoundEvent(
+                artist, title, videoId, videoTitle(item), thumbnailUrl(item)));
+
+        return Optional.of("https://www.youtube.com/watch?v=" + videoId);
+    }
+
+    private void recordFailure(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException e) {
+            log.warn("[YouTube] 검색 API 오류: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
+            if (e.getStatusCode().value() != 403 && !e.getStatusCode().is5xxServerError()) {
+                // 요청 자체의 문제(400 등)는 YouTube 장애로 보지 않는다.
+                callGuard.recordSuccess();
+                return;
+            }
+        }
+        // 403, 5xx, 타임아웃, 연결 실패 등
+        callGuard.recordFailure();
+    }
+
+    private String videoTitle(YoutubeSearchResponse.Item item) {
+        return item.getSnippet() != null ? item.getSnippet().getTitle() : null;
+    }
+
+    private String thumbnailUrl(YoutubeSearchResponse.Item item) {
+        if (item.getSnippet() == null || item.getSnippet().getThumbnails() == null) {
             return null;
         }
 
-        String videoId = response.getItems().get(0).getId().getVideoId();
-        return "https://www.youtube.com/watch?v=" + videoId;
+        YoutubeSearchResponse.Thumbnails thumbnails = item.getSnippet().getThumbnails();
+        return Stream.of(thumbnails.getHigh(), thumbnails.getMedium(), thumbnails.getDefaultThumbnail())
+                .filter(Objects::nonNull)
+                .map(YoutubeSearchResponse.Thumbnail::getUrl)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private boolean isServerError(Throwable throwable) {
+        return throwable instanceof WebClientResponseException e && e.getStatusCode().is5xxServerError();
     }
 }
@@ -0,0 +1,39 @@
+package com.nodap.infrastructure.external.youtube;
+
+import com.nodap.application.music.MusicVideoSearchPort;
+import com.nodap.application.music.SongCatalogService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.Executor;
+
+/**
+ * MV 검색 포트 조립
+ * 캐시 → 노래 카탈로그 → 동시 검색 병합 → YoutubeSearchClient 순으로 감싸 애플리케이션 계층에 제공한다.
+ * 캐시와 카탈로그의 블로킹 조회는 musicVideoLookupExecutor에서 실행한다.
+ */
+@Configuration
+public class YoutubeSearchConfig {
+
+    @Bean
+    @Primary
+    public MusicVideoSearchPort musicVideoSearchPort(YoutubeSearchClient youtubeSearchClient,
+                                                     SongCatalogService songCatalogService,
+                                                     StringRedisTemplate redisTemplate,
+                                                     YoutubeProperties youtubeProperties,
+                                                     @Qualifier("musicVideoLookupExecutor") Executor lookupExecutor,
+                                                     MeterRegistry meterRegistry) {
+        MusicVideoSearchPort singleFlight = new SingleFlightMusicVideoSearchClient(
+                youtubeSearchClient, youtubeProperties.singleFlight(), meterRegistry);
+
+        MusicVideoSearchPort catalog = new CatalogMusicVideoSearchClient(
+                singleFlight, songCatalogService, lookupExecutor, meterRegistry);
+
+        return new CachingMusicVideoSearchClient(
+                catalog, redisTemplate, youtubeProperties.cache(), lookupExecutor, meterRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.nodap.infrastructure.external.youtube;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
 import java.util.List;
@@ -12,10 +13,30 @@ public class YoutubeSearchResponse {
     @Getter
     public static class Item {
         private Id id;
+        private Snippet snippet;
     }
 
     @Getter
     public static class Id {
         private String videoId;
     }
+
+    @Getter
+    public static class Snippet {
+        private String title;
+        private Thumbnails thumbnails;
+    }
+
+    @Getter
+    public static class Thumbnails {
+        @JsonProperty("default")
+        private Thumbnail defaultThumbnail;
+        private Thumbnail medium;
+        private Thumbnail high;
+    }
+
+    @Getter
+    public static class Thumbnail {
+        private String url;
+    }
 }
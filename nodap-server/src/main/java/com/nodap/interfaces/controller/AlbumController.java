@@ -1,7 +1,9 @@
 package com.nodap.interfaces.controller;
 
 import com.nodap.application.album.AlbumService;
+import com.nodap.application.music.MusicService;
 import com.nodap.domain.album.type.AlbumSortType;
+import com.nodap.domain.music.type.MusicSortType;
 import com.nodap.global.common.ApiResponse;
 import com.nodap.interfaces.dto.album.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,9 +12,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Album", description = "앨범 관련 API")
 @RestController
@@ -20,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AlbumController {
     private final AlbumService albumService;
+    private final MusicService musicService;
 
     /**
      * 앨범 생성
@@ -67,6 +72,7 @@ public class AlbumController {
                     - 정렬 기준과 페이지 정보를 전달할 수 있습니다.
                     - 기본 정렬은 최신순(LATEST)입니다.
                     - 페이지 번호는 0부터 시작합니다.
+                    - totalElements는 사용자의 앨범 수 카운터 값입니다. 정확한 집계가 필요하면 exactCount=true를 전달합니다.
                     """
     )
     @ApiResponses({
@@ -84,9 +90,10 @@ public class AlbumController {
             @AuthenticationPrincipal Long userId,
             @RequestParam(defaultValue = "LATEST") AlbumSortType sort,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean exactCount) {
 
-        Page<AlbumListResponse> response = albumService.getAlbumList(userId, sort, page, size);
+        Page<AlbumListResponse> response = albumService.getAlbumList(userId, sort, page, size, exactCount);
 
         return ResponseEntity.ok(ApiResponse.success("앨범 목록 조회 성공", response));
     }
@@ -101,6 +108,7 @@ public class AlbumController {
 
                     - 본인이 생성한 앨범만 조회할 수 있습니다.
                     - 존재하지 않는 앨범일 경우 에러가 발생합니다.
+                    - 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 본문 없이 304를 반환합니다.
                     """
     )
     @ApiResponses({
@@ -108,6 +116,10 @@ public class AlbumController {
                     responseCode = "200",
                     description = "앨범 조회 성공"
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "If-None-Match의 ETag와 같아 변경 없음"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "403",
                     description = "앨범 접근 권한 없음"
@@ -120,11 +132,65 @@ public class AlbumController {
     @GetMapping("/{albumUuid}")
     public ResponseEntity<ApiResponse<AlbumDetailResponse>> getAlbum(
             @AuthenticationPrincipal Long userId,
-            @PathVariable String albumUuid
+            @PathVariable String albumUuid,
+            WebRequest webRequest
     ) {
-        AlbumDetailResponse response = albumService.getAlbumByUuid(userId, albumUuid);
+        // 304면 checkNotModified가 응답을 완료하므로 null 반환
+        return albumService.getAlbumByUuid(userId, albumUuid,
+                        version -> webRequest.checkNotModified(version.etag(), version.lastModified()))
+                .map(response -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .body(ApiResponse.success("앨범 조회 성공", response)))
+                .orElse(null);
+    }
 
-        return ResponseEntity.ok(ApiResponse.success("앨범 조회 성공", response));
+    /**
+     * 앨범 페이지 조회 (로그인 불필요)
+     */
+    @Operation(
+            summary = "앨범 페이지 조회",
+            description = """
+                    앨범 상세 정보, 권한 플래그, 첫 페이지 노래 목록을 한 번에 조회합니다.
+
+                    - 로그인 없이 호출 가능합니다. (비공개 앨범은 주인만 조회 가능)
+                    - 앨범 상세 조회 + 노래 목록 조회(page=0)를 연달아 호출하는 것과 같은 결과입니다.
+                    - 다음 페이지는 노래 목록 조회 또는 커서 조회 API를 사용하세요.
+                    - size는 최대 50입니다.
+                    - 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 본문 없이 304를 반환합니다.
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "앨범 페이지 조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "If-None-Match의 ETag와 같아 변경 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "앨범 UUID가 유효하지 않음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "AUTH_010: 비공개 앨범 접근 권한 없음"
+            )
+    })
+    @GetMapping("/{albumUuid}/page")
+    public ResponseEntity<ApiResponse<AlbumPageResponse>> getAlbumPage(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String albumUuid,
+            @RequestParam(defaultValue = "LATEST") MusicSortType sort,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
+    ) {
+        return musicService.getAlbumPage(userId, albumUuid, sort, size,
+                        version -> webRequest.checkNotModified(version.etag(), version.lastModified()))
+                .map(response -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .body(ApiResponse.success("앨범 페이지 조회 성공", response)))
+                .orElse(null);
     }
 
     /**
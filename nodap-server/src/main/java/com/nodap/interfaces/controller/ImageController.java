@@ -0,0 +1,216 @@
+package com.nodap.interfaces.controller;
+
+import com.nodap.global.common.ApiResponse;
+import com.nodap.infrastructure.external.S3Folder;
+import com.nodap.infrastructure.external.S3Service;
+import com.nodap.interfaces.dto.image.ImageConfirmRequest;
+import com.nodap.interfaces.dto.image.ImageUploadResponse;
+import com.nodap.interfaces.dto.image.PresignedUploadRequest;
+import com.nodap.interfaces.dto.image.PresignedUploadResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이미지 업로드 API 컨트롤러
+ * 서버 경유 업로드: multipart 대신 요청 본문(바이너리)을 그대로 받아 S3로 흘려보낸다.
+ * 직접 업로드: Presigned URL을 발급받아 클라이언트가 S3에 올리고, confirm으로 업로드 여부를 확인한다.
+ */
+@Tag(name = "Image", description = "이미지 업로드 API")
+@RestController
+@RequestMapping("/api/v1/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final S3Service s3Service;
+
+    /**
+     * 노래 이미지 업로드 (로그인 불필요)
+     */
+    @Operation(
+            summary = "노래 이미지 업로드",
+            description = """
+                    노래 이미지를 업로드하고 URL을 반환합니다.
+                    
+                    - 로그인 없이 호출 가능합니다.
+                    - 요청 본문에 이미지 바이너리를 그대로 담아 보냅니다. (multipart 아님)
+                    - Content-Type은 image/jpeg, image/png, image/gif, image/webp 중 하나여야 합니다.
+                    - 실제 형식은 파일 내용으로 판별하며, 최대 크기는 10MB입니다.
+                    - 반환된 URL을 노래 등록 요청의 imageUrl로 전달합니다.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(mediaType = "image/*",
+                    schema = @Schema(type = "string", format = "binary")))
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "이미지 업로드 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "413",
+                    description = "IMAGE_002: 이미지 크기 초과"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "415",
+                    description = "IMAGE_003: 지원하지 않는 이미지 형식"
+            )
+    })
+    @PostMapping(value = "/songs", consumes = {"image/jpeg", "image/png", "image/gif", "image/webp"})
+    public CompletableFuture<ResponseEntity<ApiResponse<ImageUploadResponse>>> uploadSongImage(HttpServletRequest request)
+            throws IOException {
+        return upload(request, S3Folder.SONGS);
+    }
+
+    /**
+     * 프로필 이미지 업로드
+     */
+    @Operation(
+            summary = "프로필 이미지 업로드",
+            description = """
+                    사용자 프로필 이미지를 업로드하고 URL을 반환합니다.
+                    
+                    - 로그인한 사용자만 호출 가능합니다.
+                    - 요청 본문에 이미지 바이너리를 그대로 담아 보냅니다. (multipart 아님)
+                    - 반환된 URL을 내 정보 수정 요청의 profileImageUrl로 전달합니다.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(mediaType = "image/*",
+                    schema = @Schema(type = "string", format = "binary")))
+    )
+    @PostMapping(value = "/users/profile", consumes = {"image/jpeg", "image/png", "image/gif", "image/webp"})
+    public CompletableFuture<ResponseEntity<ApiResponse<ImageUploadResponse>>> uploadProfileImage(HttpServletRequest request)
+            throws IOException {
+        return upload(request, S3Folder.USER_PROFILE);
+    }
+
+    /**
+     * 노래 이미지 Presigned 업로드 URL 발급 (로그인 불필요)
+     */
+    @Operation(
+            summary = "노래 이미지 Presigned 업로드 URL 발급",
+            description = """
+                    노래 이미지를 S3에 직접 업로드할 수 있는 URL을 발급합니다.
+                    
+                    - 로그인 없이 호출 가능합니다.
+                    - 응답의 uploadUrl로 PUT 요청을 보내며, headers를 그대로 포함해야 합니다.
+                    - 요청한 contentType, contentLength와 다른 파일은 S3에서 거부됩니다.
+                    - sha256을 함께 보내면 같은 이미지가 이미 있을 때 uploadRequired=false가 반환되며 업로드를 생략합니다.
+                    - 업로드 후 confirm API로 확인하거나, imageUrl을 노래 등록 요청에 바로 전달합니다.
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Presigned URL 발급 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "413",
+                    description = "IMAGE_002: 이미지 크기 초과"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "415",
+                    description = "IMAGE_003: 지원하지 않는 이미지 형식"
+            )
+    })
+    @PostMapping("/songs/presigned")
+    public ResponseEntity<ApiResponse<PresignedUploadResponse>> presignSongImage(
+            @Valid @RequestBody PresignedUploadRequest request) {
+        return presign(request, S3Folder.SONGS);
+    }
+
+    /**
+     * 노래 이미지 업로드 확인 (로그인 불필요)
+     */
+    @Operation(
+            summary = "노래 이미지 업로드 확인",
+            description = """
+                    Presigned URL로 업로드한 노래 이미지가 정상적으로 올라갔는지 확인합니다.
+                    
+                    - 로그인 없이 호출 가능합니다.
+                    - 이미지가 아니거나 크기를 초과한 파일은 삭제되고 에러가 반환됩니다.
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "업로드 확인 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "IMAGE_001: 업로드되지 않았거나 사용할 수 없는 이미지 URL"
+            )
+    })
+    @PostMapping("/songs/confirm")
+    public ResponseEntity<ApiResponse<ImageUploadResponse>> confirmSongImage(
+            @Valid @RequestBody ImageConfirmRequest request) {
+        return confirm(request, S3Folder.SONGS);
+    }
+
+    /**
+     * 프로필 이미지 Presigned 업로드 URL 발급
+     */
+    @Operation(
+            summary = "프로필 이미지 Presigned 업로드 URL 발급",
+            description = """
+                    프로필 이미지를 S3에 직접 업로드할 수 있는 URL을 발급합니다.
+                    
+                    - 로그인한 사용자만 호출 가능합니다.
+                    - 사용 방법은 노래 이미지 Presigned 업로드와 같습니다.
+                    """
+    )
+    @PostMapping("/users/profile/presigned")
+    public ResponseEntity<ApiResponse<PresignedUploadResponse>> presignProfileImage(
+            @Valid @RequestBody PresignedUploadRequest request) {
+        return presign(request, S3Folder.USER_PROFILE);
+    }
+
+    /**
+     * 프로필 이미지 업로드 확인
+     */
+    @Operation(
+            summary = "프로필 이미지 업로드 확인",
+            description = """
+                    Presigned URL로 업로드한 프로필 이미지가 정상적으로 올라갔는지 확인합니다.
+                    
+                    - 로그인한 사용자만 호출 가능합니다.
+                    """
+    )
+    @PostMapping("/users/profile/confirm")
+    public ResponseEntity<ApiResponse<ImageUploadResponse>> confirmProfileImage(
+            @Valid @RequestBody ImageConfirmRequest request) {
+        return confirm(request, S3Folder.USER_PROFILE);
+    }
+
+    private ResponseEntity<ApiResponse<PresignedUploadResponse>> presign(PresignedUploadRequest request, S3Folder folder) {
+        PresignedUploadResponse response = PresignedUploadResponse.from(
+                s3Service.presignImageUpload(folder, request.contentType(), request.contentLength(), request.sha256()));
+        return ResponseEntity.ok(ApiResponse.success("Presigned URL 발급 성공", response));
+    }
+
+    private ResponseEntity<ApiResponse<ImageUploadResponse>> confirm(ImageConfirmRequest request, S3Folder folder) {
+        String imageUrl = s3Service.confirmImage(request.imageUrl(), folder);
+        return ResponseEntity.ok(ApiResponse.success("이미지 업로드 확인 성공", new ImageUploadResponse(imageUrl)));
+    }
+
+    /**
+     * 앞부분만 요청 스레드에서 읽고, 나머지 본문 읽기와 S3 전송이 끝날 때까지는 요청 스레드를 반환한다. (Servlet 비동기 처리)
+     */
+    private CompletableFuture<ResponseEntity<ApiResponse<ImageUploadResponse>>> upload(HttpServletRequest request,
+                                                                                      S3Folder folder) throws IOException {
+        return s3Service.uploadImageAsync(request.getInputStream(), request.getContentLengthLong(), folder)
+                .thenApply(imageUrl -> ResponseEntity.ok(
+                        ApiResponse.success("이미지 업로드 성공", new ImageUploadResponse(imageUrl))));
+    }
+}
@@ -0,0 +1,197 @@
+package com.nodap.interfaces.controller;
+
+import com.nodap.global.error.BusinessException;
+import com.nodap.global.error.ErrorCode;
+import com.nodap.infrastructure.external.S3Service;
+import com.nodap.infrastructure.external.storage.LocalObjectStorage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+/**
+ * 로컬 파일 저장소 파일 제공 컨트롤러
+ * storage.type=local일 때만 활성화되며, S3/CDN 대신 저장된 이미지를 직접 내려준다.
+ */
+@Tag(name = "File", description = "로컬 파일 저장소 파일 제공 API (storage.type=local 전용)")
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "local")
+@RestController
+@RequestMapping(LocalFileController.BASE_PATH)
+@RequiredArgsConstructor
+public class LocalFileController {
+
+    static final String BASE_PATH = "/api/v1/files";
+
+    // Tomcat NIO 커넥터 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    /**
+     * 파일 조회
+     */
+    @Operation(summary = "파일 조회", description = """
+            로컬 파일 저장소에 저장된 파일을 내려줍니다.
+            
+            - storage.type=local 환경에서만 사용 가능합니다.
+            - ETag/Last-Modified 조건부 요청(If-None-Match, If-Modified-Since)에는 304를 반환합니다.
+            - 단일 Range 요청(bytes=0-1023 등)에는 206으로 부분 응답합니다.
+            """)
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "파일 조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "206",
+                    description = "부분 조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "FILE_001: 파일을 찾을 수 없습니다."
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "416",
+                    description = "요청 범위가 파일 크기를 벗어남"
+            )
+    })
+    @GetMapping("/**")
+    public void getFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path = resolve(request);
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(path.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, S3Service.IMMUTABLE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        long start = 0;
+        long end = size - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && rangeApplies(request, etag, lastModified)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                // 여러 범위 요청은 multipart/byteranges 대신 전체 응답 (RFC 9110 허용)
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+        }
+
+        response.setContentLengthLong(end - start + 1);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || end < start) {
+            return;
+        }
+        transfer(request, response, path, start, end);
+    }
+
+    /**
+     * 요청 경로에서 객체 키를 꺼내 파일 경로로 변환
+     */
+    private Path resolve(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        if (uri.length() <= BASE_PATH.length() + 1) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+        }
+        String key = UriUtils.decode(uri.substring(BASE_PATH.length() + 1), StandardCharsets.UTF_8);
+
+        Path path;
+        try {
+            path = localObjectStorage.resolve(key);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+        }
+        return path;
+    }
+
+    /**
+     * If-Range가 없거나 현재 버전과 같을 때만 Range 적용
+     */
+    private boolean rangeApplies(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.equals(etag)) {
+            return true;
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 파일 본문 전송
+     * Tomcat이 sendfile을 지원하면 커넥터가 커널에서 소켓으로 바로 보내고(사용자 공간 복사 없음),
+     * 아니면 FileChannel.transferTo로 응답 스트림에 흘려보낸다.
+     */
+    private void transfer(HttpServletRequest request, HttpServletResponse response, Path path, long start, long end)
+            throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long transferred = channel.transferTo(position, end + 1 - position, target);
+                if (transferred <= 0) {
+                    break; // 전송 중 파일이 줄어든 경우
+                }
+                position += transferred;
+            }
+        }
+    }
+}
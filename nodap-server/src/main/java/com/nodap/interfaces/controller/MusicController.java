@@ -8,7 +8,9 @@ import com.nodap.domain.music.type.MusicSortType;
 import com.nodap.global.common.ApiResponse;
 import com.nodap.infrastructure.external.S3Folder;
 import com.nodap.infrastructure.external.S3Service;
+import com.nodap.interfaces.dto.music.MusicBulkCreateRequest;
 import com.nodap.interfaces.dto.music.MusicCreateRequest;
+import com.nodap.interfaces.dto.music.MusicCursorResponse;
 import com.nodap.interfaces.dto.music.MusicDetailResponse;
 import com.nodap.interfaces.dto.music.MusicListResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,13 +19,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 
 @Tag(name = "Music", description = "노래(수록곡) 관련 API")
 @RestController
@@ -47,6 +52,8 @@ public class MusicController {
                 - 앨범 UUID는 필수 입력값입니다.
                 - 노래 제목, 아티스트는 필수 입력값입니다.
                 - 성공 시 노래가 앨범에 추가됩니다.
+                - 이미지는 file 파트로 보내거나, 이미지 업로드 API(POST /api/v1/images/songs) 또는 Presigned 업로드로 받은 URL을 request.imageUrl로 전달합니다.
+                - MV URL은 등록 이후 비동기로 확인되며, 확인 전까지 urlStatus는 PENDING입니다.
                 """
     )
     @ApiResponses({
@@ -76,15 +83,69 @@ public class MusicController {
             throw new IllegalArgumentException("request는 올바른 JSON 형식이어야 합니다.");
         }
 
-        String imageUrl = "https://nodap-images.s3.ap-northeast-2.amazonaws.com/songs/f2480cd9-6dfb-475e-90f4-d31a7ee052d7.png";
+        String imageUrl = MusicService.DEFAULT_IMAGE_URL;
 
         if(file != null && !file.isEmpty()){
             imageUrl = s3Service.uploadImage(file, S3Folder.SONGS);
+        } else if (request.getImageUrl() != null && !request.getImageUrl().isBlank()) {
+            imageUrl = s3Service.confirmImage(request.getImageUrl(), S3Folder.SONGS);
         }
         musicService.createMusic(userId, albumUuid, request, imageUrl);
         return ResponseEntity.ok(ApiResponse.success("노래 등록 성공"));
     }
 
+    /**
+     * 노래 일괄 등록 (로그인 불필요)
+     */
+    @Operation(
+            summary = "노래 일괄 등록",
+            description = """
+                앨범에 여러 노래(메시지 카드)를 한 번에 등록합니다.
+                
+                - 로그인 없이 호출 가능합니다.
+                - 한 번에 최대 20곡까지 등록할 수 있습니다.
+                - 각 노래의 제목, 아티스트는 필수 입력값입니다.
+                - 이미지는 이미지 업로드 API(POST /api/v1/images/songs) 또는 Presigned 업로드로 받은 URL을 imageUrl로 전달합니다. (없으면 기본 이미지)
+                - 추천 노래 갯수 제한을 넘으면 한 곡도 등록되지 않습니다.
+                - MV URL은 등록 이후 비동기로 확인되며, 확인 전까지 urlStatus는 PENDING입니다.
+                """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "노래 일괄 등록 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "요청 값 검증 실패 (0곡 또는 20곡 초과 포함)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "앨범을 찾을 수 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "ALBUM_002: 수록곡 제한을 초과했습니다."
+            )
+    })
+    @PostMapping(value = "albums/{albumUuid}/musics/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<Void>> createMusics(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String albumUuid,
+            @Valid @RequestBody MusicBulkCreateRequest request) {
+        // 이미지 확인(S3 조회)은 곡마다 원격 호출이므로, 권한과 수록곡 제한으로 거절될 요청은 그 전에 끝낸다.
+        musicService.checkCanAddMusics(userId, albumUuid, request.getMusics().size());
+
+        List<String> imageUrls = request.getMusics().stream()
+                .map(music -> music.getImageUrl() != null && !music.getImageUrl().isBlank()
+                        ? s3Service.confirmImage(music.getImageUrl(), S3Folder.SONGS)
+                        : MusicService.DEFAULT_IMAGE_URL)
+                .toList();
+
+        musicService.createMusics(userId, albumUuid, request.getMusics(), imageUrls);
+        return ResponseEntity.ok(ApiResponse.success("노래 일괄 등록 성공"));
+    }
+
     /**
      * 노래 목록 조회
      */
@@ -97,6 +158,10 @@ public class MusicController {
                     - 앨범 UUID 기준으로 노래 목록을 반환합니다.
                     - LATEST: 최신순, OLDEST: 오래된 순, TITLE: 제목순, ARTIST: 가수순
                     - 응답에는 노래 리스트  페이지 정보가 포함됩니다.
+                    - size는 최대 50입니다.
+                    - totalElements는 앨범의 수록곡 수 카운터 값입니다. 정확한 집계가 필요하면 exactCount=true를 전달합니다.
+                    - 깊은 페이지는 커서 조회(GET /api/v1/albums/{albumUuid}/musics/cursor)를 사용하세요.
+                    - 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 본문 없이 304를 반환합니다.
                     """
     )
     @ApiResponses({
@@ -104,6 +169,10 @@ public class MusicController {
                     responseCode = "200",
                     description = "노래 목록 조회 성공"
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "If-None-Match의 ETag와 같아 변경 없음"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "400",
                     description = "앨범 UUID가 유효하지 않음"
@@ -115,9 +184,62 @@ public class MusicController {
             @PathVariable String albumUuid,
             @RequestParam(defaultValue = "LATEST") MusicSortType sort,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size){
-        MusicListResponse response = musicService.getMusicList(userId, albumUuid, sort, page, size);
-        return ResponseEntity.ok(ApiResponse.success("노래 목록 조회 성공", response));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean exactCount,
+            WebRequest webRequest){
+        // 304면 checkNotModified가 응답을 완료하므로 null 반환
+        return musicService.getMusicList(userId, albumUuid, sort, page, size, exactCount,
+                        version -> webRequest.checkNotModified(version.etag(), version.lastModified()))
+                .map(response -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .body(ApiResponse.success("노래 목록 조회 성공", response)))
+                .orElse(null);
+    }
+
+    /**
+     * 노래 목록 커서 조회
+     */
+    @Operation(
+            summary = "노래 목록 커서 조회",
+            description = """
+                    특정 앨범에 포함된 노래 목록을 커서 기반으로 조회합니다.
+
+                    - 로그인 없이 호출 가능합니다.
+                    - 첫 페이지는 cursor 없이 호출하고, 다음 페이지는 응답의 nextCursor를 그대로 전달합니다.
+                    - 커서는 발급받은 정렬 기준(sort)과 함께 사용해야 합니다.
+                    - hasNext가 false면 마지막 페이지입니다.
+                    - size는 최대 50입니다.
+                    - 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 본문 없이 304를 반환합니다.
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "노래 목록 조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "If-None-Match의 ETag와 같아 변경 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "ERR_003: 잘못된 커서입니다."
+            )
+    })
+    @GetMapping("albums/{albumUuid}/musics/cursor")
+    public ResponseEntity<ApiResponse<MusicCursorResponse>> getMusicListByCursor(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String albumUuid,
+            @RequestParam(defaultValue = "LATEST") MusicSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest){
+        return musicService.getMusicListByCursor(userId, albumUuid, sort, cursor, size,
+                        version -> webRequest.checkNotModified(version.etag(), version.lastModified()))
+                .map(response -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .body(ApiResponse.success("노래 목록 조회 성공", response)))
+                .orElse(null);
     }
 
     /**
@@ -81,6 +81,7 @@ public class UserController {
             - 로그인한 사용자만 호출 가능합니다.
             - 닉네임은 필수이며, 이메일과 프로필 이미지는 선택입니다.
             - 프로필 이미지는 MultipartFile로 업로드하며, S3에 저장됩니다.
+            - 또는 이미지 업로드 API(POST /api/v1/images/users/profile)로 받은 URL을 request.profileImageUrl로 전달합니다.
             - 닉네임 중복 시 에러가 발생합니다.
             """)
     @ApiResponses({
@@ -124,6 +125,8 @@ public class UserController {
         String profileImageUrl = null;
         if (file != null && !file.isEmpty()) {
             profileImageUrl = s3Service.uploadImage(file, S3Folder.USER_PROFILE);
+        } else if (request.profileImageUrl() != null && !request.profileImageUrl().isBlank()) {
+            profileImageUrl = s3Service.confirmImage(request.profileImageUrl(), S3Folder.USER_PROFILE);
         }
         
         UserInfoResponse userInfo = userService.updateMyInfo(userId, request, profileImageUrl);
@@ -0,0 +1,19 @@
+package com.nodap.interfaces.dto.album;
+
+import com.nodap.interfaces.dto.music.MusicInfo;
+import com.nodap.interfaces.dto.music.MusicListResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+/**
+ * 앨범 페이지 응답 (앨범 상세 + 권한 플래그 + 첫 페이지 수록곡)
+ */
+@Getter
+@AllArgsConstructor
+public class AlbumPageResponse {
+
+    private AlbumDetailResponse album;
+    private MusicListResponse.Flag flag;
+    private Page<MusicInfo> musics;
+}
@@ -0,0 +1,15 @@
+package com.nodap.interfaces.dto.image;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 업로드 완료 확인 요청 DTO
+ */
+@Schema(description = "업로드 완료 확인 요청")
+public record ImageConfirmRequest(
+        @Schema(description = "Presigned 발급 시 받은 이미지 URL", example = "https://nodap-images.s3.ap-northeast-2.amazonaws.com/songs/uuid.jpg")
+        @NotBlank
+        String imageUrl
+) {
+}
@@ -0,0 +1,13 @@
+package com.nodap.interfaces.dto.image;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 이미지 업로드 응답 DTO
+ */
+@Schema(description = "이미지 업로드 응답")
+public record ImageUploadResponse(
+        @Schema(description = "업로드된 이미지 URL", example = "https://nodap-images.s3.ap-northeast-2.amazonaws.com/songs/uuid.jpg")
+        String imageUrl
+) {
+}
@@ -0,0 +1,28 @@
+package com.nodap.interfaces.dto.image;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Presigned 업로드 URL 발급 요청 DTO
+ */
+@Schema(description = "Presigned 업로드 URL 발급 요청")
+public record PresignedUploadRequest(
+        @Schema(description = "업로드할 이미지의 Content-Type", example = "image/jpeg")
+        @NotBlank
+        String contentType,
+
+        @Schema(description = "업로드할 이미지 크기 (bytes, 최대 10MB)", example = "102400")
+        @Positive
+        @Max(value = 10 * 1024 * 1024, message = "파일 크기는 10MB를 초과할 수 없습니다.")
+        long contentLength,
+
+        @Schema(description = "업로드할 이미지의 SHA-256 (hex, 선택). 보내면 중복 업로드를 생략하고 S3가 체크섬을 검증합니다.",
+                example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+        @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "sha256은 64자리 hex 문자열이어야 합니다.")
+        String sha256
+) {
+}
@@ -0,0 +1,32 @@
+package com.nodap.interfaces.dto.image;
+
+import com.nodap.infrastructure.external.PresignedUpload;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Presigned 업로드 URL 발급 응답 DTO
+ */
+@Schema(description = "Presigned 업로드 URL 발급 응답")
+public record PresignedUploadResponse(
+        @Schema(description = "업로드 필요 여부 (false면 같은 이미지가 이미 있으므로 imageUrl을 바로 사용)", example = "true")
+        boolean uploadRequired,
+
+        @Schema(description = "이미지를 PUT으로 업로드할 URL")
+        String uploadUrl,
+
+        @Schema(description = "업로드 완료 후 사용할 이미지 URL", example = "https://nodap-images.s3.ap-northeast-2.amazonaws.com/songs/uuid.jpg")
+        String imageUrl,
+
+        @Schema(description = "PUT 요청에 그대로 포함해야 하는 헤더", example = "{\"Content-Type\": \"image/jpeg\"}")
+        Map<String, String> headers,
+
+        @Schema(description = "uploadUrl 만료 시각")
+        Instant expiresAt
+) {
+    public static PresignedUploadResponse from(PresignedUpload upload) {
+        return new PresignedUploadResponse(upload.uploadRequired(), upload.uploadUrl(), upload.imageUrl(), upload.headers(), upload.expiresAt());
+    }
+}
@@ -0,0 +1,23 @@
+package com.nodap.interfaces.dto.music;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class MusicBulkCreateRequest {
+
+    /**
+     * 한 번에 등록할 수 있는 최대 노래 수
+     */
+    public static final int MAX_SIZE = 20;
+
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<@Valid MusicCreateRequest> musics;
+}
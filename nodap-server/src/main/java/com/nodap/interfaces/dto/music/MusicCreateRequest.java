@@ -16,4 +16,9 @@ public class MusicCreateRequest {
 
     private String message;
     private String writer;
+
+    /**
+     * 이미지 업로드 API로 받은 URL (file 파트가 있으면 file 우선)
+     */
+    private String imageUrl;
 }
@@ -0,0 +1,19 @@
+package com.nodap.interfaces.dto.music;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 수록곡 목록 커서 페이지 응답
+ */
+@Getter
+@AllArgsConstructor
+public class MusicCursorResponse {
+
+    private MusicListResponse.Flag flag;
+    private List<MusicInfo> items;
+    private String nextCursor;  // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -1,5 +1,6 @@
 package com.nodap.interfaces.dto.music;
 
+import com.nodap.domain.music.type.MusicUrlStatus;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -11,6 +12,8 @@ public class MusicInfo {
     private String artist;
     private String message;
     private String url;
+    private MusicUrlStatus urlStatus;
     private String writer;
     private String image;
+    private String thumbnail;  // 목록용 썸네일 (생성 전에는 원본 이미지)
 }
@@ -14,6 +14,10 @@ public record UpdateUserRequest(
 
         @Schema(description = "이메일 (선택)", example = "dev@example.com")
         @Size(max = 128, message = "이메일은 128자 이하여야 합니다.")
-        String email
+        String email,
+
+        @Schema(description = "이미지 업로드 API로 받은 프로필 이미지 URL (선택, file 파트가 있으면 file 우선)",
+                example = "https://nodap-images.s3.ap-northeast-2.amazonaws.com/users/profile/uuid.jpg")
+        String profileImageUrl
 ) {
 }
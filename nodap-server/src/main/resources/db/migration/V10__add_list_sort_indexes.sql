@@ -0,0 +1,23 @@
+-- ============================================
+-- 목록 정렬별 복합 인덱스 추가
+-- 앨범 ID/사용자 ID 동등 조건 + deleted_at IS NULL 뒤에 정렬 컬럼을 두어 filesort 없이 인덱스 순서로 읽는다.
+-- InnoDB 보조 인덱스는 끝에 PK(id)를 포함하므로 정렬 키가 같을 때 id 순서(커서 페이지 tie-breaker)도 인덱스로 해결된다.
+-- Version: 10
+-- Created: 2026-10-18
+-- ============================================
+
+-- 수록곡 목록 (MusicSortType: LATEST/OLDEST, TITLE, ARTIST)
+ALTER TABLE musics
+    ADD INDEX idx_musics_album_created (album_id, deleted_at, created_at, id),
+    ADD INDEX idx_musics_album_title (album_id, deleted_at, title),
+    ADD INDEX idx_musics_album_artist (album_id, deleted_at, artist);
+
+-- 앨범 목록 (AlbumSortType: LATEST/OLDEST, TITLE, POPULAR)
+ALTER TABLE albums
+    ADD INDEX idx_albums_user_created (user_id, deleted_at, created_at),
+    ADD INDEX idx_albums_user_title (user_id, deleted_at, title),
+    ADD INDEX idx_albums_user_music_count (user_id, deleted_at, music_count);
+
+-- 새 복합 인덱스가 앞쪽 컬럼으로 외래 키를 대신하므로 단일 컬럼 인덱스 제거
+ALTER TABLE musics DROP INDEX idx_musics_album_id;
+ALTER TABLE albums DROP INDEX idx_albums_user_id;
@@ -0,0 +1,10 @@
+-- ============================================
+-- musics 테이블에 MV URL 확인 상태 컬럼 추가
+-- Version: 4
+-- Created: 2026-10-18
+-- ============================================
+
+-- 기존 데이터는 등록 시점에 동기 검색이 끝난 상태이므로 RESOLVED로 채운다.
+ALTER TABLE musics
+    ADD COLUMN url_status VARCHAR(20) NOT NULL DEFAULT 'RESOLVED',
+    ADD INDEX idx_musics_url_status (url_status, created_at);
@@ -0,0 +1,21 @@
+-- ============================================
+-- song_catalog 테이블 생성 (MV 검색 결과 로컬 카탈로그)
+-- Version: 5
+-- Created: 2026-10-18
+-- ============================================
+
+CREATE TABLE song_catalog (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    fingerprint VARCHAR(200) NOT NULL COMMENT '정규화된 artist|title',
+    artist_key VARCHAR(64) NOT NULL COMMENT '정규화된 가수명',
+    title_key VARCHAR(128) NOT NULL COMMENT '정규화된 노래 제목',
+    video_id VARCHAR(32) NOT NULL,
+    video_title VARCHAR(256),
+    thumbnail_url VARCHAR(512),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NULL ON UPDATE CURRENT_TIMESTAMP,
+    deleted_at DATETIME NULL,
+    UNIQUE KEY uk_song_catalog_fingerprint (fingerprint),
+    INDEX idx_song_catalog_artist_key (artist_key),
+    INDEX idx_song_catalog_title_key (title_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
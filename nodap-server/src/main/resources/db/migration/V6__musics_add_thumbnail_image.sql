@@ -0,0 +1,9 @@
+-- ============================================
+-- musics 테이블에 썸네일 이미지 컬럼 추가
+-- Version: 6
+-- Created: 2026-10-18
+-- ============================================
+
+-- 썸네일은 등록 이후 백그라운드에서 생성되므로 NULL 허용 (NULL이면 원본 이미지 사용)
+ALTER TABLE musics
+    ADD COLUMN thumbnail_image VARCHAR(512) NULL AFTER image;
@@ -0,0 +1,16 @@
+-- ============================================
+-- image_objects 테이블 생성 (내용 주소 이미지 참조 카운트)
+-- Version: 7
+-- Created: 2026-10-18
+-- ============================================
+
+CREATE TABLE image_objects (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    object_key VARCHAR(256) NOT NULL COMMENT 'S3 객체 키 ({folder}/{sha256}.{ext})',
+    ref_count INT NOT NULL DEFAULT 0 COMMENT '이미지를 참조하는 수록곡/사용자 수',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NULL ON UPDATE CURRENT_TIMESTAMP,
+    deleted_at DATETIME NULL,
+    UNIQUE KEY uk_image_objects_object_key (object_key),
+    INDEX idx_image_objects_ref_count (ref_count, updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,10 @@
+-- ============================================
+-- image_objects 테이블에 last_claimed_at 컬럼 추가
+-- 중복 업로드로 PUT을 생략하면 S3 LastModified가 갱신되지 않으므로,
+-- 기존 객체 키를 다시 돌려준 시각을 기록해 고아 이미지 정리 유예 기간 계산에 함께 쓴다.
+-- Version: 8
+-- Created: 2026-10-18
+-- ============================================
+
+ALTER TABLE image_objects
+    ADD COLUMN last_claimed_at DATETIME NULL COMMENT '업로드/확인 요청이 기존 객체 키를 마지막으로 돌려준 시각' AFTER ref_count;
@@ -0,0 +1,16 @@
+-- ============================================
+-- users 테이블에 album_count 컬럼 추가 (앨범 목록 전체 개수용 비정규화 카운터)
+-- Version: 9
+-- Created: 2026-10-18
+-- ============================================
+
+ALTER TABLE users
+    ADD COLUMN album_count INT NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 앨범 수' AFTER role;
+
+UPDATE users u
+SET u.album_count = (
+    SELECT COUNT(*)
+    FROM albums a
+    WHERE a.user_id = u.id
+      AND a.deleted_at IS NULL
+);
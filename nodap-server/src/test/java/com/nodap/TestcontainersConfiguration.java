@@ -0,0 +1,21 @@
+package com.nodap;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 운영과 같은 MySQL 8.0 컨테이너 (실행 계획, 동시성 등 MySQL 동작에 의존하는 테스트용)
+ * 스키마는 Flyway 마이그레이션으로 만든다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+	@Bean
+	@ServiceConnection
+	MySQLContainer<?> mysqlContainer() {
+		return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+	}
+}
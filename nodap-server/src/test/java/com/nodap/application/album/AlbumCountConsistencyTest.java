@@ -0,0 +1,177 @@
+package com.nodap.application.album;
+
+import com.nodap.TestcontainersConfiguration;
+import com.nodap.application.image.ImageReferenceService;
+import com.nodap.application.music.MusicPageCache;
+import com.nodap.domain.album.type.AlbumSortType;
+import com.nodap.global.config.JpaAuditConfig;
+import com.nodap.interfaces.dto.album.AlbumCreateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용자 앨범 수(users.album_count) 정합성 검증
+ * 생성/삭제를 거친 뒤 비정규화 카운터가 삭제되지 않은 앨범 COUNT(*)와 같아야 한다.
+ * 호출마다 트랜잭션을 커밋하도록 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, JpaAuditConfig.class, AlbumService.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AlbumCountConsistencyTest {
+
+	private static final int THREADS = 10;
+
+	@Autowired
+	private AlbumService albumService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private ImageReferenceService imageReferenceService;
+
+	@MockitoBean
+	private MusicPageCache musicPageCache;
+
+	@Test
+	@DisplayName("생성과 삭제 후 앨범 수가 실제 앨범 수와 같다")
+	void albumCountFollowsCreateAndDelete() {
+		long userId = insertUser();
+
+		List<String> albums = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			albums.add(albumService.createAlbum(userId, request()).getUuid());
+			assertCountMatches(userId, i + 1);
+		}
+
+		albumService.deleteAlbum(userId, albums.get(0));
+		albumService.deleteAlbum(userId, albums.get(3));
+		assertCountMatches(userId, 3);
+
+		albumService.createAlbum(userId, request());
+		assertCountMatches(userId, 4);
+		assertThat(albumService.getAlbumList(userId, AlbumSortType.LATEST, 0, 2, false).getTotalElements())
+				.isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("실패한 삭제는 앨범 수를 바꾸지 않는다")
+	void failedDeleteKeepsAlbumCount() {
+		long ownerId = insertUser();
+		long otherId = insertUser();
+		String album = albumService.createAlbum(ownerId, request()).getUuid();
+		albumService.createAlbum(otherId, request());
+
+		assertThatThrownBy(() -> albumService.deleteAlbum(otherId, album))
+				.isInstanceOf(IllegalArgumentException.class);
+		albumService.deleteAlbum(ownerId, album);
+		assertThatThrownBy(() -> albumService.deleteAlbum(ownerId, album))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		assertCountMatches(ownerId, 0);
+		assertCountMatches(otherId, 1);
+	}
+
+	@Test
+	@DisplayName("동시 생성 후에도 앨범 수가 실제 앨범 수와 같다")
+	void albumCountFollowsConcurrentCreates() throws Exception {
+		long userId = insertUser();
+
+		runConcurrently(THREADS, () -> albumService.createAlbum(userId, request()));
+
+		assertCountMatches(userId, THREADS);
+	}
+
+	@Test
+	@DisplayName("같은 앨범을 동시에 삭제해도 앨범 수는 한 번만 줄어든다")
+	void albumCountFollowsConcurrentDeletesOfSameAlbum() throws Exception {
+		long userId = insertUser();
+		albumService.createAlbum(userId, request());
+		String album = albumService.createAlbum(userId, request()).getUuid();
+
+		runConcurrently(THREADS, () -> albumService.deleteAlbum(userId, album));
+
+		assertCountMatches(userId, 1);
+	}
+
+	private void assertCountMatches(long userId, int expected) {
+		Integer albumCount = jdbcTemplate.queryForObject("SELECT album_count FROM users WHERE id = ?",
+				Integer.class, userId);
+		Integer stored = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM albums WHERE user_id = ? "
+				+ "AND deleted_at IS NULL", Integer.class, userId);
+
+		assertThat(stored).isEqualTo(expected);
+		assertThat(albumCount).isEqualTo(stored);
+	}
+
+	/**
+	 * 같은 작업을 동시에 실행 (삭제 권한/존재 확인 실패는 무시)
+	 */
+	private void runConcurrently(int threads, Runnable task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch ready = new CountDownLatch(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit((Callable<Void>) () -> {
+					ready.countDown();
+					start.await();
+					try {
+						task.run();
+					} catch (IllegalArgumentException ignored) {
+						// 이미 삭제된 앨범
+					}
+					return null;
+				}));
+			}
+			ready.await();
+			start.countDown();
+
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private long insertUser() {
+		String uuid = UUID.randomUUID().toString();
+		jdbcTemplate.update("INSERT INTO users (uuid, nickname) VALUES (?, ?)", uuid, "user-" + uuid.substring(0, 8));
+		return jdbcTemplate.queryForObject("SELECT id FROM users WHERE uuid = ?", Long.class, uuid);
+	}
+
+	private static AlbumCreateRequest request() {
+		AlbumCreateRequest request = new AlbumCreateRequest();
+		ReflectionTestUtils.setField(request, "title", "album");
+		ReflectionTestUtils.setField(request, "color", "");
+		ReflectionTestUtils.setField(request, "isPublic", true);
+		return request;
+	}
+}
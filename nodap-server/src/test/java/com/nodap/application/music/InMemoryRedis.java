@@ -0,0 +1,40 @@
+package com.nodap.application.music;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 문자열 값 연산(get/set/increment)만 지원하는 테스트용 Redis 대역
+ * TTL은 무시한다.
+ */
+class InMemoryRedis {
+
+	final Map<String, String> values = new ConcurrentHashMap<>();
+	final StringRedisTemplate template = mock(StringRedisTemplate.class);
+
+	@SuppressWarnings("unchecked")
+	InMemoryRedis() {
+		ValueOperations<String, String> ops = mock(ValueOperations.class);
+		when(template.opsForValue()).thenReturn(ops);
+
+		when(ops.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+		when(ops.increment(anyString())).thenAnswer(invocation -> Long.parseLong(
+				values.merge(invocation.getArgument(0), "1", (old, one) -> String.valueOf(Long.parseLong(old) + 1))));
+		doAnswer(invocation -> values.put(invocation.getArgument(0), invocation.getArgument(1)))
+				.when(ops).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	long pageCount() {
+		return values.keySet().stream().filter(key -> key.startsWith("music_page:")).count();
+	}
+}
@@ -0,0 +1,145 @@
+package com.nodap.application.music;
+
+import com.nodap.TestcontainersConfiguration;
+import com.nodap.application.image.ImageReferenceService;
+import com.nodap.domain.music.repository.MusicBatchRepository;
+import com.nodap.global.config.JpaAuditConfig;
+import com.nodap.infrastructure.external.S3Service;
+import com.nodap.interfaces.dto.music.MusicCreateRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 등록 처리량 비교
+ * 같은 곡 수를 일괄 등록 1회(트랜잭션 1개, JDBC 배치 INSERT)와 단건 등록 N회(트랜잭션 N개)로 넣고 걸린 시간을 비교한다.
+ * 운영과 같이 rewriteBatchedStatements를 켜서 배치가 다중 행 INSERT 하나로 전송되게 한다.
+ */
+@DataJpaTest(properties = "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, JpaAuditConfig.class, MusicService.class, MusicBatchRepository.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MusicBulkInsertThroughputTest {
+
+	private static final int BATCH_SIZE = 20;
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int ROUNDS = 10;
+	private static final String IMAGE_URL = MusicService.DEFAULT_IMAGE_URL;
+
+	@Autowired
+	private MusicService musicService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private ImageReferenceService imageReferenceService;
+
+	@MockitoBean
+	private MusicPageCache musicPageCache;
+
+	@MockitoBean
+	private S3Service s3Service;
+
+	private long ownerId;
+	private long writerId;
+
+	@BeforeAll
+	void setUp() {
+		ownerId = insertUser("bulk-owner");
+		writerId = insertUser("bulk-writer");
+	}
+
+	@Test
+	@DisplayName("일괄 등록 1회가 단건 등록 N회보다 빠르다")
+	void bulkInsertOutperformsSingleInserts() {
+		List<MusicCreateRequest> requests = Collections.nCopies(BATCH_SIZE, request());
+		List<String> imageUrls = Collections.nCopies(BATCH_SIZE, IMAGE_URL);
+
+		String bulkAlbum = insertPublicAlbum();
+		String singleAlbum = insertPublicAlbum();
+		Runnable bulk = () -> musicService.createMusics(writerId, bulkAlbum, requests, imageUrls);
+		Runnable singles = () -> requests.forEach(
+				request -> musicService.createMusic(writerId, singleAlbum, request, IMAGE_URL));
+
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			bulk.run();
+			singles.run();
+		}
+
+		// 순서에 따른 편향(버퍼 풀, 커넥션 상태)을 줄이기 위해 라운드마다 번갈아 측정한다.
+		List<Long> bulkNanos = new ArrayList<>();
+		List<Long> singleNanos = new ArrayList<>();
+		for (int i = 0; i < ROUNDS; i++) {
+			bulkNanos.add(measure(bulk));
+			singleNanos.add(measure(singles));
+		}
+
+		long bulkMedian = median(bulkNanos);
+		long singleMedian = median(singleNanos);
+		System.out.printf("[MusicBulkInsertThroughputTest] %d곡: 일괄 등록 %.2fms, 단건 등록 %d회 %.2fms (%.1f배)%n",
+				BATCH_SIZE, bulkMedian / 1e6, BATCH_SIZE, singleMedian / 1e6, (double) singleMedian / bulkMedian);
+
+		int expected = (WARMUP_ROUNDS + ROUNDS) * BATCH_SIZE;
+		assertThat(storedMusics(bulkAlbum)).isEqualTo(expected);
+		assertThat(storedMusics(singleAlbum)).isEqualTo(expected);
+		assertThat(Duration.ofNanos(bulkMedian)).isLessThan(Duration.ofNanos(singleMedian));
+	}
+
+	private static long measure(Runnable task) {
+		long start = System.nanoTime();
+		task.run();
+		return System.nanoTime() - start;
+	}
+
+	private static long median(List<Long> samples) {
+		List<Long> sorted = samples.stream().sorted().toList();
+		return sorted.get(sorted.size() / 2);
+	}
+
+	private static MusicCreateRequest request() {
+		MusicCreateRequest request = new MusicCreateRequest();
+		ReflectionTestUtils.setField(request, "title", "song");
+		ReflectionTestUtils.setField(request, "artist", "artist");
+		ReflectionTestUtils.setField(request, "message", "message");
+		return request;
+	}
+
+	private long insertUser(String nickname) {
+		jdbcTemplate.update("INSERT INTO users (uuid, nickname) VALUES (?, ?)", UUID.randomUUID().toString(), nickname);
+		return jdbcTemplate.queryForObject("SELECT id FROM users WHERE nickname = ?", Long.class, nickname);
+	}
+
+	private String insertPublicAlbum() {
+		String uuid = UUID.randomUUID().toString();
+		jdbcTemplate.update("INSERT INTO albums (uuid, user_id, title, color, is_public) VALUES (?, ?, 'album', '', 1)",
+				uuid, ownerId);
+		return uuid;
+	}
+
+	private int storedMusics(String albumUuid) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM musics m JOIN albums a ON a.id = m.album_id "
+				+ "WHERE a.uuid = ? AND m.deleted_at IS NULL", Integer.class, albumUuid);
+	}
+}
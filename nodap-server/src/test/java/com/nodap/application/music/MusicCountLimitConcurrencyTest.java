@@ -0,0 +1,225 @@
+package com.nodap.application.music;
+
+import com.nodap.TestcontainersConfiguration;
+import com.nodap.application.image.ImageReferenceService;
+import com.nodap.domain.music.repository.MusicBatchRepository;
+import com.nodap.global.config.JpaAuditConfig;
+import com.nodap.global.error.BusinessException;
+import com.nodap.global.error.ErrorCode;
+import com.nodap.infrastructure.external.S3Service;
+import com.nodap.interfaces.dto.music.MusicCreateRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 수록곡 제한 동시성 검증
+ * 여러 요청이 동시에 같은 앨범에 등록해도 조건부 UPDATE로 정확히 제한 수만큼만 성공해야 한다.
+ * 호출마다 트랜잭션을 커밋하도록 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, JpaAuditConfig.class, MusicService.class, MusicBatchRepository.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MusicCountLimitConcurrencyTest {
+
+	private static final int THREADS = 20;
+	private static final String IMAGE_URL = MusicService.DEFAULT_IMAGE_URL;
+
+	@Autowired
+	private MusicService musicService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private ImageReferenceService imageReferenceService;
+
+	@MockitoBean
+	private MusicPageCache musicPageCache;
+
+	@MockitoBean
+	private S3Service s3Service;
+
+	private long ownerId;
+	private long writerId;
+
+	@BeforeAll
+	void setUp() {
+		ownerId = insertUser("owner");
+		writerId = insertUser("writer");
+	}
+
+	@Test
+	@DisplayName("동시 단건 등록은 제한 수만큼만 성공한다")
+	void createMusicStopsAtLimit() throws Exception {
+		int limit = 5;
+		String albumUuid = insertPublicAlbum(limit);
+
+		List<Boolean> results = runConcurrently(THREADS,
+				() -> musicService.createMusic(writerId, albumUuid, request("song"), IMAGE_URL));
+
+		assertThat(results).filteredOn(created -> created).hasSize(limit);
+		assertThat(musicCount(albumUuid)).isEqualTo(limit);
+		assertThat(storedMusics(albumUuid)).isEqualTo(limit);
+	}
+
+	@Test
+	@DisplayName("동시 일괄 등록은 제한 수만큼만 성공한다")
+	void createMusicsStopsAtLimit() throws Exception {
+		int limit = 10;
+		int batchSize = 2;
+		String albumUuid = insertPublicAlbum(limit);
+
+		List<Boolean> results = runConcurrently(THREADS,
+				() -> musicService.createMusics(writerId, albumUuid,
+						Collections.nCopies(batchSize, request("song")), Collections.nCopies(batchSize, IMAGE_URL)));
+
+		assertThat(results).filteredOn(created -> created).hasSize(limit / batchSize);
+		assertThat(musicCount(albumUuid)).isEqualTo(limit);
+		assertThat(storedMusics(albumUuid)).isEqualTo(limit);
+	}
+
+	@Test
+	@DisplayName("단건과 일괄 등록이 섞여도 제한을 넘지 않는다")
+	void mixedCreatesStayWithinLimit() throws Exception {
+		int limit = 7;
+		String albumUuid = insertPublicAlbum(limit);
+
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			Runnable create = i % 2 == 0
+					? () -> musicService.createMusic(writerId, albumUuid, request("song"), IMAGE_URL)
+					: () -> musicService.createMusics(writerId, albumUuid,
+							List.of(request("a"), request("b")), List.of(IMAGE_URL, IMAGE_URL));
+			tasks.add(limitCheckedTask(create));
+		}
+		runConcurrently(tasks);
+
+		assertThat(musicCount(albumUuid)).isLessThanOrEqualTo(limit);
+		assertThat(storedMusics(albumUuid)).isEqualTo(musicCount(albumUuid));
+	}
+
+	@Test
+	@DisplayName("일괄 등록 사전 확인은 제한을 넘는 요청만 거절한다")
+	void checkCanAddMusicsRejectsOverLimit() {
+		String albumUuid = insertPublicAlbum(3);
+		musicService.createMusic(writerId, albumUuid, request("song"), IMAGE_URL);
+
+		musicService.checkCanAddMusics(writerId, albumUuid, 2);
+		assertThatThrownBy(() -> musicService.checkCanAddMusics(writerId, albumUuid, 3))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.MUSIC_LIMIT_EXCEEDED);
+		assertThatThrownBy(() -> musicService.checkCanAddMusics(ownerId, albumUuid, 1))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.ACCESS_DENIED);
+		assertThat(musicCount(albumUuid)).isEqualTo(1);
+	}
+
+	/**
+	 * 같은 작업을 동시에 실행하고 성공 여부 반환
+	 * 수록곡 제한 초과 외의 예외(교착 상태 등)는 그대로 실패시킨다.
+	 */
+	private List<Boolean> runConcurrently(int threads, Runnable create) throws Exception {
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			tasks.add(limitCheckedTask(create));
+		}
+		return runConcurrently(tasks);
+	}
+
+	private List<Boolean> runConcurrently(List<Callable<Boolean>> tasks) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+		CountDownLatch ready = new CountDownLatch(tasks.size());
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (Callable<Boolean> task : tasks) {
+				futures.add(executor.submit(() -> {
+					ready.countDown();
+					start.await();
+					return task.call();
+				}));
+			}
+			ready.await();
+			start.countDown();
+
+			List<Boolean> results = new ArrayList<>();
+			for (Future<Boolean> future : futures) {
+				results.add(future.get(30, TimeUnit.SECONDS));
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Callable<Boolean> limitCheckedTask(Runnable create) {
+		return () -> {
+			try {
+				create.run();
+				return true;
+			} catch (BusinessException e) {
+				assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MUSIC_LIMIT_EXCEEDED);
+				return false;
+			}
+		};
+	}
+
+	private static MusicCreateRequest request(String title) {
+		MusicCreateRequest request = new MusicCreateRequest();
+		ReflectionTestUtils.setField(request, "title", title);
+		ReflectionTestUtils.setField(request, "artist", "artist");
+		return request;
+	}
+
+	private long insertUser(String nickname) {
+		jdbcTemplate.update("INSERT INTO users (uuid, nickname) VALUES (?, ?)", UUID.randomUUID().toString(), nickname);
+		return jdbcTemplate.queryForObject("SELECT id FROM users WHERE nickname = ?", Long.class, nickname);
+	}
+
+	private String insertPublicAlbum(int musicCountLimit) {
+		String uuid = UUID.randomUUID().toString();
+		jdbcTemplate.update("INSERT INTO albums (uuid, user_id, title, color, is_public, music_count_limit) "
+				+ "VALUES (?, ?, 'album', '', 1, ?)", uuid, ownerId, musicCountLimit);
+		return uuid;
+	}
+
+	private int musicCount(String albumUuid) {
+		return jdbcTemplate.queryForObject("SELECT music_count FROM albums WHERE uuid = ?", Integer.class, albumUuid);
+	}
+
+	private int storedMusics(String albumUuid) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM musics m JOIN albums a ON a.id = m.album_id "
+				+ "WHERE a.uuid = ? AND m.deleted_at IS NULL", Integer.class, albumUuid);
+	}
+}
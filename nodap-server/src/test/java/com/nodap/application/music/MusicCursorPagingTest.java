@@ -0,0 +1,206 @@
+package com.nodap.application.music;
+
+import com.nodap.TestcontainersConfiguration;
+import com.nodap.application.image.ImageReferenceService;
+import com.nodap.domain.music.repository.MusicBatchRepository;
+import com.nodap.domain.music.repository.MusicListItem;
+import com.nodap.domain.music.repository.MusicRepository;
+import com.nodap.domain.music.type.MusicSortType;
+import com.nodap.global.config.JpaAuditConfig;
+import com.nodap.global.error.BusinessException;
+import com.nodap.global.error.ErrorCode;
+import com.nodap.infrastructure.external.S3Service;
+import com.nodap.interfaces.dto.music.MusicCursorResponse;
+import com.nodap.interfaces.dto.music.MusicInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 수록곡 커서 페이지 검증
+ * 정렬 키가 겹치고(같은 제목/가수/등록 시각, 대소문자만 다른 제목) 가수 없는 곡이 섞인 앨범을
+ * 정렬 기준마다 끝까지 넘겨, 누락이나 중복 없이 DB 정렬 순서 그대로 내려오는지 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, JpaAuditConfig.class, MusicService.class, MusicBatchRepository.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MusicCursorPagingTest {
+
+	private static final int MUSICS = 23;
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	@Autowired
+	private MusicService musicService;
+
+	@Autowired
+	private MusicRepository musicRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private ImageReferenceService imageReferenceService;
+
+	@MockitoBean
+	private MusicPageCache musicPageCache;
+
+	@MockitoBean
+	private S3Service s3Service;
+
+	private long ownerId;
+	private long albumId;
+	private String albumUuid;
+
+	@BeforeAll
+	void setUp() {
+		ownerId = insertUser("owner");
+		albumUuid = insertAlbum();
+		albumId = jdbcTemplate.queryForObject("SELECT id FROM albums WHERE uuid = ?", Long.class, albumUuid);
+
+		String[] titles = {"b", "A", "a", "c", "B"};
+		for (int i = 0; i < MUSICS; i++) {
+			String artist = i % 4 == 0 ? null : "artist" + i % 3;
+			insertMusic(albumUuid, titles[i % titles.length], artist, BASE_TIME.plusMinutes(i / 3), false);
+		}
+		// 목록에 나오면 안 되는 곡
+		insertMusic(albumUuid, "deleted", null, BASE_TIME, true);
+		insertMusic(insertAlbum(), "other album", null, BASE_TIME, false);
+	}
+
+	@ParameterizedTest
+	@EnumSource(MusicSortType.class)
+	@DisplayName("정렬 기준마다 누락·중복 없이 DB 정렬 순서대로 끝까지 넘긴다")
+	void pagesThroughAlbumWithoutGapsOrDuplicates(MusicSortType sortType) {
+		for (int size = 1; size <= 4; size++) {
+			assertThat(pageThrough(sortType, size)).as("size=%d", size).isEqualTo(expectedOrder(sortType));
+		}
+	}
+
+	@Test
+	@DisplayName("한 건 더 읽어 다음 페이지 여부를 판단한다")
+	void detectsNextPageWithOneExtraRow() {
+		MusicCursorResponse exact = page(MusicSortType.LATEST, null, MUSICS);
+		assertThat(exact.getItems()).hasSize(MUSICS);
+		assertThat(exact.isHasNext()).isFalse();
+		assertThat(exact.getNextCursor()).isNull();
+
+		MusicCursorResponse oneShort = page(MusicSortType.LATEST, null, MUSICS - 1);
+		assertThat(oneShort.getItems()).hasSize(MUSICS - 1);
+		assertThat(oneShort.isHasNext()).isTrue();
+
+		MusicCursorResponse last = page(MusicSortType.LATEST, oneShort.getNextCursor(), MUSICS - 1);
+		assertThat(last.getItems()).hasSize(1);
+		assertThat(last.isHasNext()).isFalse();
+		assertThat(last.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("가수 없는 곡 커서 뒤에는 남은 가수 없는 곡, 가수 있는 곡 순으로 이어진다")
+	void continuesAfterNullArtistCursor() {
+		List<Long> nullArtistIds = jdbcTemplate.queryForList("SELECT id FROM musics WHERE album_id = ? "
+				+ "AND deleted_at IS NULL AND artist IS NULL ORDER BY id", Long.class, albumId);
+		Long cursorId = nullArtistIds.get(1);
+
+		List<MusicListItem> after = musicRepository.findArtistAfterNullArtist(albumId, cursorId, PageRequest.of(0, MUSICS));
+
+		List<Long> expected = jdbcTemplate.queryForList("SELECT id FROM musics WHERE album_id = ? "
+				+ "AND deleted_at IS NULL ORDER BY artist, id", Long.class, albumId);
+		assertThat(after).extracting(MusicListItem::id)
+				.isEqualTo(expected.subList(expected.indexOf(cursorId) + 1, expected.size()));
+		assertThat(after).extracting(MusicListItem::artist).startsWith(null, null);
+	}
+
+	@Test
+	@DisplayName("다른 정렬 기준의 커서로는 조회할 수 없다")
+	void rejectsCursorOfAnotherSortType() {
+		String titleCursor = page(MusicSortType.TITLE, null, 2).getNextCursor();
+
+		assertThatThrownBy(() -> page(MusicSortType.ARTIST, titleCursor, 2))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.INVALID_CURSOR);
+	}
+
+	@Test
+	@DisplayName("커서는 마지막 곡 위치를 그대로 담는다")
+	void cursorPointsAtLastItem() {
+		MusicCursorResponse first = page(MusicSortType.ARTIST, null, 3);
+		MusicCursor cursor = MusicCursor.decode(first.getNextCursor(), MusicSortType.ARTIST);
+
+		Long lastId = jdbcTemplate.queryForObject("SELECT id FROM musics WHERE uuid = ?", Long.class,
+				first.getItems().get(2).getUuid());
+		assertThat(cursor.id()).isEqualTo(lastId);
+		assertThat(cursor.value()).isEqualTo(first.getItems().get(2).getArtist());
+	}
+
+	private List<String> pageThrough(MusicSortType sortType, int size) {
+		List<String> uuids = new ArrayList<>();
+		String cursor = null;
+		do {
+			MusicCursorResponse response = page(sortType, cursor, size);
+			response.getItems().stream().map(MusicInfo::getUuid).forEach(uuids::add);
+			assertThat(response.getNextCursor() != null).isEqualTo(response.isHasNext());
+			cursor = response.getNextCursor();
+			assertThat(uuids).hasSizeLessThanOrEqualTo(MUSICS);
+		} while (cursor != null);
+		return uuids;
+	}
+
+	private MusicCursorResponse page(MusicSortType sortType, String cursor, int size) {
+		return musicService.getMusicListByCursor(ownerId, albumUuid, sortType, cursor, size, version -> false)
+				.orElseThrow();
+	}
+
+	private List<String> expectedOrder(MusicSortType sortType) {
+		String orderBy = switch (sortType) {
+			case LATEST -> "created_at DESC, id DESC";
+			case OLDEST -> "created_at, id";
+			case TITLE -> "title, id";
+			case ARTIST -> "artist, id";
+		};
+		return jdbcTemplate.queryForList("SELECT uuid FROM musics WHERE album_id = ? AND deleted_at IS NULL "
+				+ "ORDER BY " + orderBy, String.class, albumId);
+	}
+
+	private long insertUser(String nickname) {
+		jdbcTemplate.update("INSERT INTO users (uuid, nickname) VALUES (?, ?)", UUID.randomUUID().toString(), nickname);
+		return jdbcTemplate.queryForObject("SELECT id FROM users WHERE nickname = ?", Long.class, nickname);
+	}
+
+	private String insertAlbum() {
+		String uuid = UUID.randomUUID().toString();
+		jdbcTemplate.update("INSERT INTO albums (uuid, user_id, title, color, is_public) VALUES (?, ?, 'album', '', 1)",
+				uuid, ownerId);
+		return uuid;
+	}
+
+	private void insertMusic(String albumUuid, String title, String artist, LocalDateTime createdAt, boolean deleted) {
+		jdbcTemplate.update("INSERT INTO musics (uuid, album_id, title, artist, url, writer, created_at, deleted_at) "
+						+ "SELECT ?, id, ?, ?, '', 'writer', ?, ? FROM albums WHERE uuid = ?",
+				UUID.randomUUID().toString(), title, artist, createdAt, deleted ? createdAt : null, albumUuid);
+	}
+}
@@ -0,0 +1,98 @@
+package com.nodap.application.music;
+
+import com.nodap.domain.music.repository.MusicListItem;
+import com.nodap.domain.music.type.MusicSortType;
+import com.nodap.global.error.BusinessException;
+import com.nodap.global.error.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MusicCursorTest {
+
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 1, 12, 30, 5);
+
+	@ParameterizedTest
+	@EnumSource(MusicSortType.class)
+	@DisplayName("인코딩한 커서는 같은 정렬 기준으로 그대로 해석된다")
+	void roundTrips(MusicSortType sortType) {
+		MusicCursor cursor = MusicCursor.of(sortType, item(42L, "제목|with|separators", "artist"));
+
+		MusicCursor decoded = MusicCursor.decode(cursor.encode(), sortType);
+
+		assertThat(decoded).isEqualTo(cursor);
+		if (sortType == MusicSortType.LATEST || sortType == MusicSortType.OLDEST) {
+			assertThat(decoded.createdAt()).isEqualTo(CREATED_AT);
+		}
+	}
+
+	@Test
+	@DisplayName("가수 없는 곡의 가수순 커서는 null 값으로 해석된다")
+	void roundTripsNullArtist() {
+		MusicCursor cursor = MusicCursor.of(MusicSortType.ARTIST, item(7L, "title", null));
+
+		MusicCursor decoded = MusicCursor.decode(cursor.encode(), MusicSortType.ARTIST);
+
+		assertThat(decoded.value()).isNull();
+		assertThat(decoded.id()).isEqualTo(7L);
+	}
+
+	@Test
+	@DisplayName("빈 문자열 가수는 null과 구분된다")
+	void distinguishesEmptyArtistFromNull() {
+		MusicCursor cursor = MusicCursor.of(MusicSortType.ARTIST, item(7L, "title", ""));
+
+		assertThat(MusicCursor.decode(cursor.encode(), MusicSortType.ARTIST).value()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 정렬 기준으로 발급된 커서는 거부한다")
+	void rejectsCursorOfAnotherSortType() {
+		String titleCursor = MusicCursor.of(MusicSortType.TITLE, item(1L, "title", "artist")).encode();
+		String latestCursor = MusicCursor.of(MusicSortType.LATEST, item(1L, "title", "artist")).encode();
+
+		assertInvalid(titleCursor, MusicSortType.ARTIST);
+		assertInvalid(titleCursor, MusicSortType.LATEST);
+		assertInvalid(latestCursor, MusicSortType.OLDEST);
+	}
+
+	@Test
+	@DisplayName("가수순이 아닌 커서의 null 값은 거부한다")
+	void rejectsNullValueOutsideArtistSort() {
+		assertInvalid(raw("TITLE|1|-"), MusicSortType.TITLE);
+		assertInvalid(raw("LATEST|1|-"), MusicSortType.LATEST);
+	}
+
+	@Test
+	@DisplayName("형식이 깨진 커서는 거부한다")
+	void rejectsMalformedCursor() {
+		assertInvalid("not base64 !!", MusicSortType.TITLE);
+		assertInvalid(raw("TITLE|1"), MusicSortType.TITLE);
+		assertInvalid(raw("UNKNOWN|1|=title"), MusicSortType.TITLE);
+		assertInvalid(raw("TITLE|abc|=title"), MusicSortType.TITLE);
+		assertInvalid(raw("LATEST|1|=yesterday"), MusicSortType.LATEST);
+	}
+
+	private static void assertInvalid(String cursor, MusicSortType sortType) {
+		assertThatThrownBy(() -> MusicCursor.decode(cursor, sortType))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.INVALID_CURSOR);
+	}
+
+	private static String raw(String decoded) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static MusicListItem item(Long id, String title, String artist) {
+		return new MusicListItem(id, "uuid-" + id, title, artist, null, "", null, "writer", null, null, CREATED_AT);
+	}
+}
@@ -0,0 +1,193 @@
+package com.nodap.application.music;
+
+import com.nodap.TestcontainersConfiguration;
+import com.nodap.application.album.AlbumService;
+import com.nodap.application.image.ImageReferenceService;
+import com.nodap.domain.music.repository.MusicBatchRepository;
+import com.nodap.domain.music.repository.MusicRepository;
+import com.nodap.domain.music.type.MusicSortType;
+import com.nodap.global.config.JpaAuditConfig;
+import com.nodap.global.error.BusinessException;
+import com.nodap.infrastructure.external.S3Service;
+import com.nodap.interfaces.dto.music.MusicCreateRequest;
+import com.nodap.interfaces.dto.music.MusicInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 수록곡 목록 페이지 캐시 무효화 검증
+ * 공개 앨범 목록을 캐시에 올린 뒤 수록곡 등록/삭제, 공개 여부 변경을 커밋하면 이전 페이지가 다시 나가지 않아야 한다.
+ * Redis는 메모리 대역으로 대신하고, 호출마다 트랜잭션을 커밋하도록 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, JpaAuditConfig.class, MusicService.class, MusicBatchRepository.class,
+		AlbumService.class, MusicPageCacheInvalidationTest.PageCacheConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MusicPageCacheInvalidationTest {
+
+	@Autowired
+	private MusicService musicService;
+
+	@Autowired
+	private AlbumService albumService;
+
+	@Autowired
+	private MusicPageCache musicPageCache;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private ImageReferenceService imageReferenceService;
+
+	@MockitoBean
+	private S3Service s3Service;
+
+	private long ownerId;
+	private long writerId;
+	private String albumUuid;
+
+	@BeforeEach
+	void setUp() {
+		ownerId = insertUser();
+		writerId = insertUser();
+		albumUuid = UUID.randomUUID().toString();
+		jdbcTemplate.update("INSERT INTO albums (uuid, user_id, title, color, is_public) VALUES (?, ?, 'album', '', 1)",
+				albumUuid, ownerId);
+	}
+
+	@Test
+	@DisplayName("수록곡 등록 후에는 이전 페이지를 내보내지 않는다")
+	void createInvalidatesCachedPage() {
+		musicService.createMusic(writerId, albumUuid, request("first"), MusicService.DEFAULT_IMAGE_URL);
+		assertCachedListing("first");
+
+		musicService.createMusic(writerId, albumUuid, request("second"), MusicService.DEFAULT_IMAGE_URL);
+		assertThat(titles()).containsExactlyInAnyOrder("first", "second");
+
+		musicService.createMusics(writerId, albumUuid, List.of(request("third"), request("fourth")),
+				List.of(MusicService.DEFAULT_IMAGE_URL, MusicService.DEFAULT_IMAGE_URL));
+		assertThat(titles()).containsExactlyInAnyOrder("first", "second", "third", "fourth");
+	}
+
+	@Test
+	@DisplayName("수록곡 삭제 후에는 이전 페이지를 내보내지 않는다")
+	void deleteInvalidatesCachedPage() {
+		musicService.createMusic(writerId, albumUuid, request("kept"), MusicService.DEFAULT_IMAGE_URL);
+		musicService.createMusic(writerId, albumUuid, request("deleted"), MusicService.DEFAULT_IMAGE_URL);
+		assertCachedListing("kept", "deleted");
+
+		String deletedUuid = jdbcTemplate.queryForObject("SELECT uuid FROM musics WHERE title = 'deleted' "
+				+ "AND album_id = (SELECT id FROM albums WHERE uuid = ?)", String.class, albumUuid);
+		musicService.deleteMusic(ownerId, deletedUuid);
+
+		assertThat(titles()).containsExactly("kept");
+	}
+
+	@Test
+	@DisplayName("공개 여부 변경 후에는 새 버전으로 다시 읽는다")
+	void toggleInvalidatesCachedPage() {
+		musicService.createMusic(writerId, albumUuid, request("song"), MusicService.DEFAULT_IMAGE_URL);
+		assertCachedListing("song");
+		long before = musicPageCache.version(albumUuid);
+
+		albumService.toggleAlbumVisibility(ownerId, albumUuid);
+		assertThat(musicPageCache.version(albumUuid)).isEqualTo(before + 1);
+		assertThatThrownBy(this::titles).isInstanceOf(BusinessException.class);
+
+		albumService.toggleAlbumVisibility(ownerId, albumUuid);
+		double misses = requests("miss");
+		assertThat(titles()).containsExactly("song");
+		assertThat(requests("miss")).isEqualTo(misses + 1);
+	}
+
+	@Test
+	@DisplayName("롤백된 등록은 캐시를 무효화하지 않는다")
+	void rolledBackCreateKeepsVersion() {
+		jdbcTemplate.update("UPDATE albums SET music_count_limit = 1 WHERE uuid = ?", albumUuid);
+		musicService.createMusic(writerId, albumUuid, request("only"), MusicService.DEFAULT_IMAGE_URL);
+		long before = musicPageCache.version(albumUuid);
+
+		assertThatThrownBy(() -> musicService.createMusic(writerId, albumUuid, request("over"),
+				MusicService.DEFAULT_IMAGE_URL)).isInstanceOf(BusinessException.class);
+
+		assertThat(musicPageCache.version(albumUuid)).isEqualTo(before);
+	}
+
+	/**
+	 * 목록이 기대한 내용이고 두 번째 조회는 캐시에서 나왔는지 확인
+	 */
+	private void assertCachedListing(String... expected) {
+		assertThat(titles()).containsExactlyInAnyOrder(expected);
+		double hits = requests("hit");
+		assertThat(titles()).containsExactlyInAnyOrder(expected);
+		assertThat(requests("hit")).isEqualTo(hits + 1);
+	}
+
+	private List<String> titles() {
+		return musicService.getMusicList(null, albumUuid, MusicSortType.LATEST, 0, 20, false, version -> false)
+				.orElseThrow()
+				.getItems()
+				.map(MusicInfo::getTitle)
+				.getContent();
+	}
+
+	private double requests(String result) {
+		return meterRegistry.get("music.page.cache.requests").tag("result", result).counter().count();
+	}
+
+	private long insertUser() {
+		String uuid = UUID.randomUUID().toString();
+		jdbcTemplate.update("INSERT INTO users (uuid, nickname) VALUES (?, ?)", uuid, "user-" + uuid.substring(0, 8));
+		return jdbcTemplate.queryForObject("SELECT id FROM users WHERE uuid = ?", Long.class, uuid);
+	}
+
+	private static MusicCreateRequest request(String title) {
+		MusicCreateRequest request = new MusicCreateRequest();
+		ReflectionTestUtils.setField(request, "title", title);
+		ReflectionTestUtils.setField(request, "artist", "artist");
+		return request;
+	}
+
+	@TestConfiguration
+	static class PageCacheConfig {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		MusicPageCache musicPageCache(MusicRepository musicRepository, MeterRegistry meterRegistry) {
+			return new MusicPageCache(new InMemoryRedis().template, Jackson2ObjectMapperBuilder.json().build(),
+					musicRepository, new MusicPageCacheProperties(true, null, null), meterRegistry);
+		}
+	}
+}
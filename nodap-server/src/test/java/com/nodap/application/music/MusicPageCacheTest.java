@@ -0,0 +1,168 @@
+package com.nodap.application.music;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nodap.application.image.ImageReferenceService;
+import com.nodap.domain.album.repository.AlbumAccess;
+import com.nodap.domain.album.repository.AlbumRepository;
+import com.nodap.domain.music.repository.MusicBatchRepository;
+import com.nodap.domain.music.repository.MusicListItem;
+import com.nodap.domain.music.repository.MusicRepository;
+import com.nodap.domain.music.type.MusicSortType;
+import com.nodap.infrastructure.external.S3Service;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MusicPageCacheTest {
+
+	private static final String ALBUM_UUID = "album-uuid";
+	private static final Pageable FIRST_PAGE = MusicSortType.LATEST.toPageable(0, 20);
+
+	private final InMemoryRedis redis = new InMemoryRedis();
+	private final MusicRepository musicRepository = mock(MusicRepository.class);
+	private final MusicPageCache cache = new MusicPageCache(redis.template, objectMapper(), musicRepository,
+			new MusicPageCacheProperties(true, null, null), new SimpleMeterRegistry());
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖의 무효화는 바로 버전을 올린다")
+	void evictOutsideTransactionBumpsImmediately() {
+		cache.evict(ALBUM_UUID);
+
+		assertThat(cache.version(ALBUM_UUID)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안의 무효화는 커밋 이후에 버전을 올린다")
+	void evictInTransactionBumpsAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evict(ALBUM_UUID);
+		assertThat(cache.version(ALBUM_UUID)).isZero();
+
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		synchronizations.forEach(sync -> sync.beforeCommit(false));
+		assertThat(cache.version(ALBUM_UUID)).as("커밋 전").isZero();
+
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+		assertThat(cache.version(ALBUM_UUID)).as("커밋 후").isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("롤백된 트랜잭션의 무효화는 버전을 올리지 않는다")
+	void evictInRolledBackTransactionKeepsVersion() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evict(ALBUM_UUID);
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		assertThat(cache.version(ALBUM_UUID)).isZero();
+	}
+
+	@Test
+	@DisplayName("같은 버전이면 캐시된 페이지를, 버전이 오르면 새로 읽은 페이지를 준다")
+	void servesCachedPageOnlyForSameVersion() {
+		AtomicInteger loads = new AtomicInteger();
+
+		long version = cache.version(ALBUM_UUID);
+		assertThat(load(version, "before", loads)).containsExactly("before");
+		assertThat(load(version, "unused", loads)).as("캐시 적중").containsExactly("before");
+
+		cache.evict(ALBUM_UUID);
+
+		assertThat(load(cache.version(ALBUM_UUID), "after", loads)).containsExactly("after");
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("버전을 읽지 못하면 캐시 없이 조회한다")
+	void bypassesCacheWhenVersionUnavailable() {
+		when(redis.template.opsForValue().get(anyString())).thenThrow(new IllegalStateException("redis down"));
+		AtomicInteger loads = new AtomicInteger();
+
+		long version = cache.version(ALBUM_UUID);
+		assertThat(version).isEqualTo(MusicPageCache.NO_VERSION);
+
+		load(version, "first", loads);
+		load(version, "second", loads);
+		assertThat(loads).hasValue(2);
+		assertThat(redis.pageCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("목록 조회는 첫 DB 조회보다 먼저 버전을 읽는다")
+	void readsVersionBeforeFirstDatabaseRead() {
+		MusicPageCache pageCache = mock(MusicPageCache.class);
+		AlbumRepository albumRepository = mock(AlbumRepository.class);
+		MusicService musicService = new MusicService(mock(ApplicationEventPublisher.class), albumRepository,
+				musicRepository, mock(MusicBatchRepository.class), mock(ImageReferenceService.class), pageCache,
+				mock(S3Service.class));
+
+		when(pageCache.version(ALBUM_UUID)).thenReturn(3L);
+		when(albumRepository.findAccessByUuid(ALBUM_UUID, null)).thenReturn(Optional.of(publicAlbum()));
+		when(pageCache.getOrLoad(eq(ALBUM_UUID), eq(3L), any(), any(), any())).thenReturn(Page.empty());
+		when(musicRepository.findFirstPage(anyLong(), any())).thenReturn(List.of());
+
+		musicService.getMusicList(null, ALBUM_UUID, MusicSortType.LATEST, 0, 20, false, version -> false);
+		musicService.getMusicListByCursor(null, ALBUM_UUID, MusicSortType.LATEST, null, 20, version -> false);
+
+		InOrder order = inOrder(pageCache, albumRepository);
+		order.verify(pageCache).version(ALBUM_UUID);
+		order.verify(albumRepository).findAccessByUuid(ALBUM_UUID, null);
+		order.verify(pageCache).getOrLoad(eq(ALBUM_UUID), eq(3L), eq(MusicSortType.LATEST), any(), any());
+		order.verify(pageCache).version(ALBUM_UUID);
+		order.verify(albumRepository).findAccessByUuid(ALBUM_UUID, null);
+	}
+
+	private List<String> load(long version, String title, AtomicInteger loads) {
+		Page<MusicListItem> page = cache.getOrLoad(ALBUM_UUID, version, MusicSortType.LATEST, FIRST_PAGE, () -> {
+			loads.incrementAndGet();
+			return new PageImpl<>(List.of(item(title)), FIRST_PAGE, 1);
+		});
+		return page.getContent().stream().map(MusicListItem::title).toList();
+	}
+
+	private static MusicListItem item(String title) {
+		return new MusicListItem(1L, "music-uuid", title, "artist", null, "", null, "writer", null, null,
+				LocalDateTime.of(2026, 1, 1, 0, 0));
+	}
+
+	private static AlbumAccess publicAlbum() {
+		LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+		return new AlbumAccess(1L, ALBUM_UUID, true, 0, 0, createdAt, createdAt, false);
+	}
+
+	private static ObjectMapper objectMapper() {
+		return Jackson2ObjectMapperBuilder.json().build();
+	}
+}
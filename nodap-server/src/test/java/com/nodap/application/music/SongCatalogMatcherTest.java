@@ -0,0 +1,70 @@
+package com.nodap.application.music;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SongCatalogMatcherTest {
+
+	@Test
+	@DisplayName("번호만 다른 제목은 매칭하지 않는다")
+	void rejectsDifferentNumbers() {
+		assertThat(score("beethoven", "symphonyno5", "beethoven", "symphonyno9")).isZero();
+		assertThat(score("beethoven", "symphony no.5", "beethoven", "symphony no.9")).isZero();
+		assertThat(score("chopin", "nocturne op.9 no.2", "chopin", "nocturne op.9 no.1")).isZero();
+	}
+
+	@Test
+	@DisplayName("속편(번호 유무, 다른 번호)은 매칭하지 않는다")
+	void rejectsSequels() {
+		assertThat(score("randy newman", "toy story 2", "randy newman", "toy story")).isZero();
+		assertThat(score("randy newman", "toy story", "randy newman", "toy story 2")).isZero();
+		assertThat(score("bts", "love yourself part 2", "bts", "love yourself part 3")).isZero();
+	}
+
+	@Test
+	@DisplayName("같은 번호는 띄어쓰기가 달라도 매칭한다")
+	void acceptsSameNumbersWrittenDifferently() {
+		assertThat(score("beethoven", "symphony no. 5", "beethoven", "symphonyno.5")).isEqualTo(1.0);
+		assertThat(score("bts", "love yourself part 2", "bts", "loveyourself part2")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("한글 한 글자만 다른 다른 노래는 매칭하지 않는다")
+	void rejectsHangulNearMisses() {
+		assertThat(score("아이유", "좋은 날", "아이유", "좋은 밤")).isZero();
+		assertThat(score("아이유", "사랑", "아이유", "사람")).isZero();
+		assertThat(score("김동률", "너의 의미", "김동률", "너의 외미")).isZero();
+	}
+
+	@Test
+	@DisplayName("한글 받침 오타와 띄어쓰기 차이는 매칭한다")
+	void acceptsHangulTyposAndSpacing() {
+		assertThat(score("이문세", "첫눈처럼 너에게 가겠다", "이문세", "첫눈처럼 너에게 가겟다"))
+				.isGreaterThanOrEqualTo(SongCatalogMatcher.TITLE_THRESHOLD);
+		assertThat(score("아이유", "밤편지", "아이유", "밤 편지")).isEqualTo(1.0);
+		assertThat(score("빅뱅", "거짓말", "빅 뱅", "거짓말")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("제목은 가수명 기준보다 엄격하게 본다")
+	void appliesStricterTitleThreshold() {
+		double similarity = SongCatalogMatcher.similarity("spring day", "spring days");
+		assertThat(similarity).isBetween(SongCatalogMatcher.ARTIST_THRESHOLD, SongCatalogMatcher.TITLE_THRESHOLD);
+
+		assertThat(score("bts", "spring day", "bts", "spring days")).isZero();
+	}
+
+	@Test
+	@DisplayName("숫자열 추출")
+	void extractsDigitSequences() {
+		assertThat(SongCatalogMatcher.digits("symphony no.5 op.67")).containsExactly("5", "67");
+		assertThat(SongCatalogMatcher.digits("no.007")).containsExactly("7");
+		assertThat(SongCatalogMatcher.digits("봄날")).isEmpty();
+	}
+
+	private static double score(String artist, String title, String artistKey, String titleKey) {
+		return SongCatalogMatcher.score(MusicSearchKey.of(artist, title), artistKey, titleKey);
+	}
+}
@@ -0,0 +1,207 @@
+package com.nodap.domain;
+
+import com.nodap.TestcontainersConfiguration;
+import com.nodap.domain.album.repository.AlbumRepository;
+import com.nodap.domain.album.type.AlbumSortType;
+import com.nodap.domain.music.repository.MusicRepository;
+import com.nodap.domain.music.type.MusicSortType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 정렬별 실행 계획 검증 (V10 복합 인덱스)
+ * 실제 리포지토리가 만든 SQL을 가로채 EXPLAIN하고, 정렬에 맞는 인덱스를 쓰며 filesort가 없는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.nodap.domain.ListSortIndexTest$SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListSortIndexTest {
+
+	private static final int USERS = 2;
+	private static final int ALBUMS = 400;
+	private static final int MUSICS = 8000;
+	private static final int PAGE_SIZE = 20;
+
+	private static final long USER_ID = 1L;
+	private static final long ALBUM_ID = 1L;
+	private static final LocalDateTime CURSOR_CREATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+	private static final long CURSOR_ID = MUSICS / 2;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MusicRepository musicRepository;
+
+	@Autowired
+	private AlbumRepository albumRepository;
+
+	@BeforeAll
+	void setUp() {
+		for (int i = 1; i <= USERS; i++) {
+			jdbcTemplate.update("INSERT INTO users (uuid, nickname) VALUES (?, ?)", "user-" + i, "user" + i);
+		}
+		insertRows("INSERT INTO albums (uuid, user_id, title, color, music_count, created_at) VALUES ", ALBUMS,
+				i -> List.of("album-" + i, 1 + i % USERS, "title" + i % 97, "", i % 31, CURSOR_CREATED_AT.minusMinutes(i)));
+		insertRows("INSERT INTO musics (uuid, album_id, title, artist, url, writer, created_at) VALUES ", MUSICS,
+				i -> {
+					List<Object> row = new ArrayList<>();
+					row.add("music-" + i);
+					row.add(1 + i % 40);
+					row.add("title" + i % 331);
+					row.add(i % 13 == 0 ? null : "artist" + i % 57);
+					row.add("");
+					row.add("writer");
+					row.add(CURSOR_CREATED_AT.minusMinutes(i));
+					return row;
+				});
+		jdbcTemplate.execute("ANALYZE TABLE albums, musics");
+	}
+
+	@BeforeEach
+	void clearCapturedSql() {
+		SqlCapture.STATEMENTS.clear();
+	}
+
+	@ParameterizedTest
+	@EnumSource(MusicSortType.class)
+	void musicPageUsesSortIndex(MusicSortType sortType) {
+		musicRepository.findSliceByAlbumIdAndNotDeleted(ALBUM_ID, sortType.toPageable(0, PAGE_SIZE));
+
+		assertUsesIndex(musicIndex(sortType), ALBUM_ID);
+	}
+
+	@ParameterizedTest
+	@EnumSource(MusicSortType.class)
+	void musicFirstCursorPageUsesSortIndex(MusicSortType sortType) {
+		musicRepository.findFirstPage(ALBUM_ID, PageRequest.of(0, PAGE_SIZE, sortType.toKeysetSort()));
+
+		assertUsesIndex(musicIndex(sortType), ALBUM_ID);
+	}
+
+	@ParameterizedTest
+	@EnumSource(MusicSortType.class)
+	void musicNextCursorPageUsesSortIndex(MusicSortType sortType) {
+		Pageable limit = PageRequest.of(0, PAGE_SIZE);
+		switch (sortType) {
+			case LATEST -> {
+				musicRepository.findLatestAfter(ALBUM_ID, CURSOR_CREATED_AT, CURSOR_ID, limit);
+				assertUsesIndex(musicIndex(sortType), ALBUM_ID, CURSOR_CREATED_AT, CURSOR_CREATED_AT, CURSOR_ID);
+			}
+			case OLDEST -> {
+				musicRepository.findOldestAfter(ALBUM_ID, CURSOR_CREATED_AT, CURSOR_ID, limit);
+				assertUsesIndex(musicIndex(sortType), ALBUM_ID, CURSOR_CREATED_AT, CURSOR_CREATED_AT, CURSOR_ID);
+			}
+			case TITLE -> {
+				musicRepository.findTitleAfter(ALBUM_ID, "title100", CURSOR_ID, limit);
+				assertUsesIndex(musicIndex(sortType), ALBUM_ID, "title100", "title100", CURSOR_ID);
+			}
+			case ARTIST -> {
+				musicRepository.findArtistAfter(ALBUM_ID, "artist20", CURSOR_ID, limit);
+				assertUsesIndex(musicIndex(sortType), ALBUM_ID, "artist20", "artist20", CURSOR_ID);
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(AlbumSortType.class)
+	void albumPageUsesSortIndex(AlbumSortType sortType) {
+		albumRepository.findSliceByUserIdAndNotDeleted(USER_ID, sortType.toPageable(0, PAGE_SIZE));
+
+		assertUsesIndex(albumIndex(sortType), USER_ID);
+	}
+
+	private static String musicIndex(MusicSortType sortType) {
+		return switch (sortType) {
+			case LATEST, OLDEST -> "idx_musics_album_created";
+			case TITLE -> "idx_musics_album_title";
+			case ARTIST -> "idx_musics_album_artist";
+		};
+	}
+
+	private static String albumIndex(AlbumSortType sortType) {
+		return switch (sortType) {
+			case LATEST, OLDEST -> "idx_albums_user_created";
+			case TITLE -> "idx_albums_user_title";
+			case POPULAR -> "idx_albums_user_music_count";
+		};
+	}
+
+	/**
+	 * 마지막으로 실행된 조회를 EXPLAIN해 인덱스와 filesort 여부 확인
+	 * 앞쪽 파라미터는 쿼리 순서대로 받고, 남은 자리(LIMIT/OFFSET)는 페이지 크기로 채운다.
+	 */
+	private void assertUsesIndex(String expectedIndex, Object... queryParams) {
+		String sql = SqlCapture.STATEMENTS.get(SqlCapture.STATEMENTS.size() - 1);
+
+		List<Object> params = new ArrayList<>(List.of(queryParams));
+		long placeholders = sql.chars().filter(c -> c == '?').count();
+		while (params.size() < placeholders) {
+			params.add(PAGE_SIZE);
+		}
+
+		List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params.toArray());
+		assertThat(plan).as("실행 계획: %s", sql).hasSize(1);
+
+		Map<String, Object> row = plan.get(0);
+		String extra = String.valueOf(row.get("Extra"));
+		assertThat(row.get("key")).as("사용 인덱스 (%s)", plan).isEqualTo(expectedIndex);
+		assertThat(extra).as("Extra (%s)", plan).doesNotContain("Using filesort");
+	}
+
+	private void insertRows(String insertPrefix, int count, IntFunction<List<Object>> row) {
+		int batchSize = 500;
+		for (int from = 1; from <= count; from += batchSize) {
+			int to = Math.min(from + batchSize - 1, count);
+			StringBuilder sql = new StringBuilder(insertPrefix);
+			List<Object> params = new ArrayList<>();
+			for (int i = from; i <= to; i++) {
+				List<Object> values = row.apply(i);
+				sql.append(i == from ? "" : ", ").append("(").append("?, ".repeat(values.size() - 1)).append("?)");
+				params.addAll(values);
+			}
+			jdbcTemplate.update(sql.toString(), params.toArray());
+		}
+	}
+
+	/**
+	 * Hibernate가 실행하는 SQL 기록
+	 */
+	public static class SqlCapture implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.nodap.infrastructure.external.youtube;
+
+import com.nodap.application.music.MusicVideoSearchUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * YouTube 검색 호출 보호 검증
+ * 로컬 stub 서버(search.list 대역)에 응답 상태를 순서대로 지정해 토큰 버킷과 circuit breaker 동작을 확인한다.
+ */
+class YoutubeSearchClientTest {
+
+	private static final int FAILURE_THRESHOLD = 2;
+	private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+	private static final String FOUND_BODY = """
+			{"items":[{"id":{"videoId":"abc123"},"snippet":{"title":"MV"}}]}
+			""";
+
+	private HttpServer server;
+	private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger requests = new AtomicInteger();
+
+	private MeterRegistry meterRegistry;
+	private YoutubeCallGuard callGuard;
+	private YoutubeSearchClient client;
+
+	@BeforeEach
+	void startStub() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/youtube/v3/search", exchange -> {
+			requests.incrementAndGet();
+			Integer status = statuses.poll();
+			byte[] body = (status == null || status == 200 ? FOUND_BODY : "{}").getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status == null ? 200 : status, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void stopStub() {
+		server.stop(0);
+	}
+
+	@Test
+	@DisplayName("403이 반복되면 차단하고, 차단 시간 뒤 시험 호출이 성공하면 다시 연다")
+	void opensOnRepeated403AndClosesAfterSuccessfulProbe() throws Exception {
+		setUpClient(100);
+		respond(403, 403);
+
+		assertSearchFails();
+		assertSearchFails();
+		assertThat(callGuard.state()).isEqualTo(YoutubeCallGuard.State.OPEN);
+
+		// 차단 중에는 네트워크 호출 없이 거절한다.
+		assertRejectedWithoutCall();
+
+		TimeUnit.MILLISECONDS.sleep(OPEN_DURATION.toMillis() + 50);
+		assertThat(search()).contains("https://www.youtube.com/watch?v=abc123");
+		assertThat(callGuard.state()).isEqualTo(YoutubeCallGuard.State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 차단한다")
+	void reopensWhenProbeFails() throws Exception {
+		setUpClient(100);
+		respond(403, 403, 403);
+
+		assertSearchFails();
+		assertSearchFails();
+		TimeUnit.MILLISECONDS.sleep(OPEN_DURATION.toMillis() + 50);
+
+		assertSearchFails();
+		assertThat(callGuard.state()).isEqualTo(YoutubeCallGuard.State.OPEN);
+		assertRejectedWithoutCall();
+	}
+
+	@Test
+	@DisplayName("쿼터 예산을 모두 쓰면 호출하지 않고 거절한다")
+	void rejectsWhenTokensAreExhausted() throws Exception {
+		setUpClient(2);
+
+		assertThat(search()).isPresent();
+		assertThat(search()).isPresent();
+		assertRejectedWithoutCall();
+		assertThat(remainingTokens()).isZero();
+	}
+
+	@Test
+	@DisplayName("5xx 재시도도 토큰을 하나 더 쓴다")
+	void retryConsumesAToken() throws Exception {
+		setUpClient(2);
+		respond(503, 200);
+
+		assertThat(search()).isPresent();
+		assertThat(requests).hasValue(2);
+		assertThat(remainingTokens()).isZero();
+		assertRejectedWithoutCall();
+	}
+
+	@Test
+	@DisplayName("재시도할 토큰이 없으면 다시 호출하지 않는다")
+	void retryIsRejectedWithoutToken() {
+		setUpClient(1);
+		respond(503, 200);
+
+		assertThatThrownBy(this::search)
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(MusicVideoSearchUnavailableException.class);
+		assertThat(requests).hasValue(1);
+	}
+
+	private void setUpClient(int burst) {
+		// 하루 충전량이 1회분이라 테스트 중에는 사실상 충전되지 않는다.
+		YoutubeProperties properties = new YoutubeProperties(
+				"test-key",
+				"http://127.0.0.1:" + server.getAddress().getPort(),
+				Duration.ofSeconds(2),
+				null,
+				null,
+				new YoutubeProperties.Quota(100, 100, burst),
+				new YoutubeProperties.CircuitBreaker(FAILURE_THRESHOLD, OPEN_DURATION));
+
+		meterRegistry = new SimpleMeterRegistry();
+		callGuard = new YoutubeCallGuard(properties, meterRegistry);
+		client = new YoutubeSearchClient(properties, WebClient.create(), callGuard, event -> {
+		});
+	}
+
+	private void respond(Integer... statusCodes) {
+		statuses.addAll(List.of(statusCodes));
+	}
+
+	private Optional<String> search() throws Exception {
+		return client.searchAsync("아이유", "좋은 날").get(5, TimeUnit.SECONDS);
+	}
+
+	private void assertSearchFails() {
+		assertThatThrownBy(this::search).isInstanceOf(ExecutionException.class);
+	}
+
+	private void assertRejectedWithoutCall() {
+		int before = requests.get();
+		assertThatThrownBy(this::search)
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(MusicVideoSearchUnavailableException.class);
+		assertThat(requests).hasValue(before);
+	}
+
+	private double remainingTokens() {
+		return meterRegistry.get("youtube.search.quota.remaining").gauge().value();
+	}
+}